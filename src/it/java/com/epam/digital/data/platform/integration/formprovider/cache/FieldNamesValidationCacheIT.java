@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.FieldNamesCacheProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+public class FieldNamesValidationCacheIT {
+
+  private final FieldNamesValidationCache cache = new FieldNamesValidationCache(
+      new FieldNamesCacheProperties());
+  private final AtomicInteger remoteCalls = new AtomicInteger();
+
+  @Test
+  public void testCachePassedCheckRegardlessOfFieldsOrder() {
+    cache.checkFieldNames("formId", fields("field1", "field2"), f -> remoteCalls.incrementAndGet());
+    cache.checkFieldNames("formId", fields("field2", "field1"), f -> remoteCalls.incrementAndGet());
+
+    assertThat(remoteCalls.get()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCacheRejectedCheck() {
+    var errors = ValidationErrorDto.builder()
+        .message("Task form does not have fields with names field1").build();
+
+    for (int i = 0; i < 2; i++) {
+      var ex = assertThrows(SubmissionValidationException.class,
+          () -> cache.checkFieldNames("formId", fields("field1"), f -> {
+            remoteCalls.incrementAndGet();
+            throw new SubmissionValidationException(errors);
+          }));
+      assertThat(ex.getErrors()).isEqualTo(errors);
+    }
+    assertThat(remoteCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCachedRejectionIsNotAffectedByCallerChanges() {
+    var errors = new ValidationErrorDto("traceId", "VALIDATION_ERROR", "Validation error",
+        new ErrorsListDto(new ArrayList<>(
+            List.of(new ErrorDetailDto("Unknown field", "field1", null)))));
+    Consumer<FormFieldListValidationDto> remoteCheck = f -> {
+      throw new SubmissionValidationException(errors);
+    };
+
+    var first = assertThrows(SubmissionValidationException.class,
+        () -> cache.checkFieldNames("formId", fields("field1"), remoteCheck));
+    first.getErrors().setMessage("Changed");
+    first.getErrors().getDetails().getErrors().clear();
+    var second = assertThrows(SubmissionValidationException.class,
+        () -> cache.checkFieldNames("formId", fields("field1"), remoteCheck));
+    second.getErrors().getDetails().getErrors().get(0).setField("changed");
+    var third = assertThrows(SubmissionValidationException.class,
+        () -> cache.checkFieldNames("formId", fields("field1"), remoteCheck));
+
+    assertThat(third).isNotSameAs(second);
+    assertThat(third.getErrors().getMessage()).isEqualTo("Validation error");
+    assertThat(third.getErrors().getDetails().getErrors())
+        .extracting(ErrorDetailDto::getField).containsExactly("field1");
+  }
+
+  @Test
+  public void testCachedRejectionKeepsMissingErrors() {
+    Consumer<FormFieldListValidationDto> remoteCheck = f -> {
+      throw new SubmissionValidationException(null);
+    };
+
+    assertThrows(SubmissionValidationException.class,
+        () -> cache.checkFieldNames("formId", fields("field1"), remoteCheck));
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> cache.checkFieldNames("formId", fields("field1"), remoteCheck));
+
+    assertThat(ex.getErrors()).isNull();
+  }
+
+  @Test
+  public void testInvalidateDiscardsResultOfCheckInFlight() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var slowCheck = CompletableFuture.runAsync(
+        () -> cache.checkFieldNames("formId", fields("field1"), f -> {
+          remoteCalls.incrementAndGet();
+          started.countDown();
+          await(release);
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    cache.invalidate("formId");
+    release.countDown();
+    slowCheck.get(5, TimeUnit.SECONDS);
+    cache.checkFieldNames("formId", fields("field1"), f -> remoteCalls.incrementAndGet());
+
+    assertThat(remoteCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testInvalidateResultsOfForm() {
+    cache.checkFieldNames("formId", fields("field1"), f -> remoteCalls.incrementAndGet());
+    cache.checkFieldNames("otherFormId", fields("field1"), f -> remoteCalls.incrementAndGet());
+
+    cache.invalidate("formId");
+    cache.checkFieldNames("formId", fields("field1"), f -> remoteCalls.incrementAndGet());
+    cache.checkFieldNames("otherFormId", fields("field1"), f -> remoteCalls.incrementAndGet());
+
+    assertThat(remoteCalls.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testNotBlockOtherKeysWhileRemoteCheckIsInFlight() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var slowCheck = CompletableFuture.runAsync(
+        () -> cache.checkFieldNames("formId", fields("slow"), f -> {
+          started.countDown();
+          await(release);
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    var otherChecks = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < 100; i++) {
+        cache.checkFieldNames("formId", fields("field" + i), f -> remoteCalls.incrementAndGet());
+      }
+    });
+
+    otherChecks.get(5, TimeUnit.SECONDS);
+    release.countDown();
+    slowCheck.get(5, TimeUnit.SECONDS);
+    assertThat(remoteCalls.get()).isEqualTo(100);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private FormFieldListValidationDto fields(String... fields) {
+    return FormFieldListValidationDto.builder().fields(List.of(fields)).build();
+  }
+}
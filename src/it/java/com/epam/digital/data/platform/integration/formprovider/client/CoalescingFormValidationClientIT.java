@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.CoalescingProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.transport.Deadline;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CoalescingFormValidationClientIT {
+
+  private final FormValidationClient delegate = mock(FormValidationClient.class);
+
+  @Test
+  public void testShareInFlightCall() throws Exception {
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(),
+        new CoalescingProperties());
+    var release = new CountDownLatch(1);
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return invocation.getArgument(1);
+    });
+
+    var executor = Executors.newFixedThreadPool(2);
+
+    var first = CompletableFuture.supplyAsync(
+        () -> client.validateFormData("formId", formData()), executor);
+    var second = CompletableFuture.supplyAsync(
+        () -> client.validateFormData("formId", formData()), executor);
+    Thread.sleep(200);
+    release.countDown();
+
+    assertThat(first.get()).isEqualTo(second.get()).isNotSameAs(second.get());
+    executor.shutdown();
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testReuseValidationErrorWithinWindow() {
+    var properties = new CoalescingProperties();
+    properties.setReuseWindow(Duration.ofMinutes(1));
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(), properties);
+    var exception = new SubmissionValidationException(ValidationErrorDto.builder().build());
+    when(delegate.validateFormData(eq("formId"), any())).thenThrow(exception);
+
+    var first = assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData()));
+    var second = assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData()));
+
+    assertThat(first).isNotSameAs(exception).isNotSameAs(second);
+    assertThat(first.getErrors()).isEqualTo(exception.getErrors())
+        .isNotSameAs(second.getErrors());
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testReturnResultOfSoleCallerAsIs() {
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(),
+        new CoalescingProperties());
+    var result = formData();
+    when(delegate.validateFormData(eq("formId"), any())).thenReturn(result);
+
+    assertThat(client.validateFormData("formId", formData())).isSameAs(result);
+  }
+
+  @Test
+  public void testKeepMissingErrorsAndStacklessModeOfReusedValidationError() {
+    var properties = new CoalescingProperties();
+    properties.setReuseWindow(Duration.ofMinutes(1));
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(), properties);
+    when(delegate.validateFormData(eq("formId"), any()))
+        .thenThrow(new SubmissionValidationException(null, false));
+
+    assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData()));
+    var reused = assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData()));
+
+    assertThat(reused.getErrors()).isNull();
+    assertThat(reused.getStackTrace()).isEmpty();
+  }
+
+  @Test
+  public void testNotShareFailuresOtherThanValidationErrors() throws Exception {
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(),
+        new CoalescingProperties());
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var calls = new AtomicInteger();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      if (calls.incrementAndGet() == 1) {
+        started.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        throw new IllegalStateException("Failed");
+      }
+      return invocation.getArgument(1);
+    });
+    var executor = Executors.newFixedThreadPool(2);
+
+    var first = CompletableFuture.supplyAsync(
+        () -> client.validateFormData("formId", formData()), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    var second = CompletableFuture.supplyAsync(
+        () -> client.validateFormData("formId", formData()), executor);
+    Thread.sleep(200);
+    release.countDown();
+
+    var failure = assertThrows(ExecutionException.class, first::get);
+    assertThat(failure.getCause()).isInstanceOf(IllegalStateException.class);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(formData());
+    executor.shutdown();
+    verify(delegate, times(2)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testStopWaitingForSharedCallAtDeadline() throws Exception {
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(),
+        new CoalescingProperties());
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var result = formData();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return result;
+    });
+    var executor = Executors.newSingleThreadExecutor();
+
+    var first = CompletableFuture.supplyAsync(
+        () -> client.validateFormData("formId", formData()), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    var waitStarted = System.nanoTime();
+    assertThrows(DeadlineExceededException.class, () -> Deadline.call(Duration.ofMillis(100),
+        () -> client.validateFormData("formId", formData())));
+    assertThat(System.nanoTime() - waitStarted).isLessThan(1_000_000_000L);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(result);
+    executor.shutdown();
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testNotShareCallsWithDifferentData() {
+    var client = new CoalescingFormValidationClient(delegate, new ObjectMapper(),
+        new CoalescingProperties());
+    var other = formData();
+    other.getData().put("name", "other");
+
+    client.validateFormData("formId", formData());
+    client.validateFormData("formId", other);
+    client.validateFormData("formId", formData());
+
+    verify(delegate, times(3)).validateFormData(eq("formId"), any());
+  }
+
+  private FormDataValidationDto formData() {
+    var data = new LinkedHashMap<String, Object>();
+    data.put("name", "value");
+    return FormDataValidationDto.builder().data(data).processInstanceId("processId").build();
+  }
+}
@@ -19,24 +19,33 @@ package com.epam.digital.data.platform.integration.formprovider.client;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.BatchProperties;
 import com.epam.digital.data.platform.integration.formprovider.config.WireMockConfig;
 import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
 import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
 import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
 import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.metrics.FormValidationMetrics;
+import com.epam.digital.data.platform.integration.formprovider.service.FormDataBatchValidationService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.google.common.io.ByteStreams;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -45,7 +54,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @EnableAutoConfiguration
 @EnableFeignClients(clients = FormValidationClient.class)
-@SpringBootTest(classes = {WireMockConfig.class})
+@SpringBootTest(classes = {WireMockConfig.class, SimpleMeterRegistry.class})
 public class FormValidationClientIT {
 
   @Autowired
@@ -54,6 +63,10 @@ public class FormValidationClientIT {
   private ObjectMapper objectMapper;
   @Autowired
   private FormValidationClient formValidationClient;
+  @Autowired
+  private FormValidationAsyncClient formValidationAsyncClient;
+  @Autowired
+  private MeterRegistry meterRegistry;
 
   @Test
   public void testFormDataValidationWithValidData() throws JsonProcessingException {
@@ -82,6 +95,60 @@ public class FormValidationClientIT {
     assertThat(ex.getErrors().getDetails().getErrors().get(1).getField()).isEqualTo("edrpou");
   }
 
+  @Test
+  public void testFormDataStatusCheck() throws Exception {
+    var formDataDto = formData("status", "valid");
+    restClientWireMock.addStubMapping(
+        stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate"))
+            .withHeader("Prefer", equalTo("return=minimal"))
+            .withRequestBody(equalTo(objectMapper.writeValueAsString(formDataDto)))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withStatus(200)
+                .withBody(objectMapper.writeValueAsString(formDataDto)))
+        ));
+
+    assertDoesNotThrow(() -> formValidationClient.checkFormData("formId", formDataDto));
+  }
+
+  @Test
+  public void testFormDataStatusCheckWithInvalidData() throws Exception {
+    var errorValidationResponse = new String(ByteStreams
+        .toByteArray(Objects.requireNonNull(
+            getClass().getResourceAsStream("/json/error_validation_response.json"))));
+    var formDataDto = formData("status", "");
+    mockFormDataValidation(422, formDataDto, errorValidationResponse);
+
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> formValidationClient.checkFormData("formId", formDataDto));
+
+    assertThat(ex.getErrors().getDetails().getErrors()).hasSize(2);
+  }
+
+  @Test
+  public void testFormDataValidationMetrics() throws Exception {
+    var errorValidationResponse = new String(ByteStreams
+        .toByteArray(Objects.requireNonNull(
+            getClass().getResourceAsStream("/json/error_validation_response.json"))));
+    var formDataDto = formData("name", "metrics");
+    mockFormDataValidation(422, formDataDto, errorValidationResponse);
+
+    assertThrows(SubmissionValidationException.class,
+        () -> formValidationClient.validateFormData("formId", formDataDto));
+
+    assertThat(meterRegistry.get(FormValidationMetrics.CALLS)
+        .tag("method", "validateFormData")
+        .tag("formKey", "formId")
+        .tag("outcome", "validation_error")
+        .timer().count()).isPositive();
+    assertThat(meterRegistry.get(FormValidationMetrics.ERROR_DECODER).tag("status", "422")
+        .timer().count()).isPositive();
+    assertThat(meterRegistry.get(FormValidationMetrics.REQUEST_BYTES)
+        .tag("method", "validateFormData").counter().count()).isPositive();
+    assertThat(meterRegistry.get(FormValidationMetrics.RESPONSE_BYTES)
+        .tag("method", "validateFormData").counter().count()).isPositive();
+  }
+
   @Test
   public void testFormDataValidationWithInternalServerError() throws Exception {
     var formDataDto = FormDataValidationDto.builder().data(new LinkedHashMap<>()).build();
@@ -95,6 +162,151 @@ public class FormValidationClientIT {
     assertThat(ex.status()).isEqualTo(status);
   }
 
+  @Test
+  public void testAsyncFormDataValidationWithValidData() throws JsonProcessingException {
+    var formDataDto = formData("async", "valid");
+    mockFormDataValidation(200, formDataDto, objectMapper.writeValueAsString(formDataDto));
+
+    var result = formValidationAsyncClient.validateFormData("formId", formDataDto).join();
+
+    assertThat(result).isEqualTo(formDataDto);
+  }
+
+  @Test
+  public void testAsyncFormDataValidationWithInvalidData() throws Exception {
+    var errorValidationResponse = new String(ByteStreams
+        .toByteArray(Objects.requireNonNull(
+            getClass().getResourceAsStream("/json/error_validation_response.json"))));
+    var formDataDto = formData("async", "");
+    mockFormDataValidation(422, formDataDto, errorValidationResponse);
+
+    var future = formValidationAsyncClient.validateFormData("formId", formDataDto);
+
+    var ex = assertThrows(CompletionException.class, future::join);
+    assertThat(ex.getCause()).isInstanceOf(SubmissionValidationException.class);
+    assertThat(((SubmissionValidationException) ex.getCause()).getErrors().getDetails()
+        .getErrors()).hasSize(2);
+  }
+
+  @Test
+  public void testFormDataBatchValidation() throws Exception {
+    var validData = formData("name", "valid");
+    var invalidData = formData("name", "");
+    var errorValidationResponse = new String(ByteStreams
+        .toByteArray(Objects.requireNonNull(
+            getClass().getResourceAsStream("/json/error_validation_response.json"))));
+    restClientWireMock.addStubMapping(
+        stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate/batch"))
+            .withRequestBody(
+                equalTo(objectMapper.writeValueAsString(List.of(validData, invalidData))))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withStatus(200)
+                .withBody(String.format("[{\"formData\": %s}, {\"formData\": %s, \"errors\": %s}]",
+                    objectMapper.writeValueAsString(validData),
+                    objectMapper.writeValueAsString(invalidData), errorValidationResponse))
+            )
+        ));
+    var batchValidationService = new FormDataBatchValidationService(formValidationClient,
+        new BatchProperties());
+
+    var result = batchValidationService.validate("formId", List.of(validData, invalidData));
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).isValid()).isTrue();
+    assertThat(result.get(1).isValid()).isFalse();
+    assertThat(result.get(1).getErrors().getDetails().getErrors().get(0).getField())
+        .isEqualTo("name");
+    batchValidationService.shutdown();
+  }
+
+  @Test
+  public void testFormDataBatchValidationFallbackToSingleCalls() throws Exception {
+    var validData = formData("edrpou", "valid");
+    var invalidData = formData("edrpou", "");
+    var errorValidationResponse = new String(ByteStreams
+        .toByteArray(Objects.requireNonNull(
+            getClass().getResourceAsStream("/json/error_validation_response.json"))));
+    restClientWireMock.addStubMapping(
+        stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate/batch"))
+            .withRequestBody(
+                equalTo(objectMapper.writeValueAsString(List.of(validData, invalidData))))
+            .willReturn(aResponse().withStatus(404))
+        ));
+    mockFormDataValidation(200, validData, objectMapper.writeValueAsString(validData));
+    mockFormDataValidation(422, invalidData, errorValidationResponse);
+    var batchValidationService = new FormDataBatchValidationService(formValidationClient,
+        new BatchProperties());
+
+    var result = batchValidationService.validate("formId", List.of(validData, invalidData));
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).getFormData()).isEqualTo(validData);
+    assertThat(result.get(0).isValid()).isTrue();
+    assertThat(result.get(1).getErrors().getCode()).isEqualTo("VALIDATION_ERROR");
+    batchValidationService.shutdown();
+  }
+
+  @Test
+  public void testFormDataBatchValidationProbesBatchEndpointAgain() throws Exception {
+    var validData = formData("edrpou", "probe");
+    restClientWireMock.addStubMapping(
+        stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate/batch"))
+            .withRequestBody(equalTo(objectMapper.writeValueAsString(List.of(validData))))
+            .willReturn(aResponse().withStatus(404))
+        ));
+    mockFormDataValidation(200, validData, objectMapper.writeValueAsString(validData));
+    var batchRequests = postRequestedFor(
+        urlPathEqualTo("/api/form-submissions/formId/validate/batch"))
+        .withRequestBody(equalTo(objectMapper.writeValueAsString(List.of(validData))));
+    var properties = new BatchProperties();
+
+    var latchedService = new FormDataBatchValidationService(formValidationClient, properties);
+    latchedService.validate("formId", List.of(validData));
+    latchedService.validate("formId", List.of(validData));
+    latchedService.shutdown();
+    restClientWireMock.verify(1, batchRequests);
+
+    properties.setProbeInterval(Duration.ZERO);
+    var probingService = new FormDataBatchValidationService(formValidationClient, properties);
+    probingService.validate("formId", List.of(validData));
+    probingService.validate("formId", List.of(validData));
+    probingService.shutdown();
+    restClientWireMock.verify(3, batchRequests);
+  }
+
+  @Test
+  public void testFormDataBatchValidationRejectsShortResponse() throws Exception {
+    var firstData = formData("name", "first");
+    var secondData = formData("name", "second");
+    restClientWireMock.addStubMapping(
+        stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate/batch"))
+            .withRequestBody(
+                equalTo(objectMapper.writeValueAsString(List.of(firstData, secondData))))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withStatus(200)
+                .withBody(String.format("[{\"formData\": %s}]",
+                    objectMapper.writeValueAsString(firstData)))
+            )
+        ));
+    var batchValidationService = new FormDataBatchValidationService(formValidationClient,
+        new BatchProperties());
+
+    var ex = assertThrows(IllegalStateException.class,
+        () -> batchValidationService.validate("formId", List.of(firstData, secondData)));
+
+    assertThat(ex.getMessage()).contains("returned 1 results for 2 items");
+    batchValidationService.shutdown();
+  }
+
+  @Test
+  public void testBatchSizeMustBePositive() {
+    var properties = new BatchProperties();
+
+    assertThrows(IllegalArgumentException.class, () -> properties.setSize(0));
+  }
+
   @Test
   public void testFileFieldValidationWithInvalidData() throws Exception {
     var errorValidationResponse = new String(ByteStreams
@@ -131,6 +343,12 @@ public class FormValidationClientIT {
         "Task form does not have fields with names field1, field2");
   }
 
+  private FormDataValidationDto formData(String field, String value) {
+    var data = new LinkedHashMap<String, Object>();
+    data.put(field, value);
+    return FormDataValidationDto.builder().data(data).build();
+  }
+
   private void mockFormDataValidation(int respStatus, FormDataValidationDto reqBody,
       String respBody)
       throws JsonProcessingException {
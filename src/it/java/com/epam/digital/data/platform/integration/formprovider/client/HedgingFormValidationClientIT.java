@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.CoalescingProperties;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.HedgingProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.integration.formprovider.transport.Cancellation;
+import com.epam.digital.data.platform.integration.formprovider.transport.Deadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class HedgingFormValidationClientIT {
+
+  private final FormValidationClient delegate = mock(FormValidationClient.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  public void testReturnHedgedResponseAndCancelSlowAttempt() throws InterruptedException {
+    var client = new HedgingFormValidationClient(delegate, properties(1.0), meterRegistry);
+    var attempts = new AtomicInteger();
+    var slowAttemptCancelled = new CountDownLatch(1);
+    var slowAttemptThread = new AtomicReference<Thread>();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      abortable();
+      if (attempts.incrementAndGet() == 6) {
+        slowAttemptThread.set(Thread.currentThread());
+        Cancellation.current().orElseThrow().onCancel(slowAttemptCancelled::countDown);
+        if (slowAttemptCancelled.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Request is aborted");
+        }
+        return new FormDataValidationDto();
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    var formData = formData();
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isSameAs(formData);
+    assertThat(slowAttemptThread.get()).isSameAs(Thread.currentThread());
+    assertThat(slowAttemptCancelled.getCount()).isZero();
+    verify(delegate, times(7)).validateFormData(eq("formId"), any());
+    assertThat(count("form.validation.client.hedge.sent")).isEqualTo(1);
+    assertThat(awaitCount("form.validation.client.hedge.wins", 1)).isEqualTo(1);
+  }
+
+  @Test
+  public void testCancelHedgeIfOriginalAttemptWins() throws InterruptedException {
+    var client = new HedgingFormValidationClient(delegate, properties(1.0), meterRegistry);
+    var attempts = new AtomicInteger();
+    var hedgeStarted = new CountDownLatch(1);
+    var hedgeCancelled = new CountDownLatch(1);
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      abortable();
+      var attempt = attempts.incrementAndGet();
+      if (attempt == 6) {
+        hedgeStarted.await(5, TimeUnit.SECONDS);
+      } else if (attempt == 7) {
+        Cancellation.current().orElseThrow().onCancel(hedgeCancelled::countDown);
+        hedgeStarted.countDown();
+        hedgeCancelled.await(5, TimeUnit.SECONDS);
+        throw new IllegalStateException("Request is aborted");
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    var formData = formData();
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isSameAs(formData);
+    assertThat(hedgeCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(count("form.validation.client.hedge.sent")).isEqualTo(1);
+    assertThat(count("form.validation.client.hedge.wins")).isZero();
+  }
+
+  @Test
+  public void testNotHedgeOverBudget() {
+    var client = new HedgingFormValidationClient(delegate, properties(0), meterRegistry);
+    var attempts = new AtomicInteger();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      if (attempts.incrementAndGet() == 6) {
+        Thread.sleep(300);
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    var formData = formData();
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isSameAs(formData);
+    verify(delegate, times(6)).validateFormData(eq("formId"), any());
+    assertThat(count("form.validation.client.hedge.sent")).isZero();
+    assertThat(count("form.validation.client.hedge.throttled")).isEqualTo(1);
+  }
+
+  @Test
+  public void testMakeOriginalAttemptOffCallerThreadIfTransportDoesNotAbort() {
+    var client = new HedgingFormValidationClient(delegate, properties(1.0), meterRegistry);
+    var attempts = new AtomicInteger();
+    var slowAttemptThread = new AtomicReference<Thread>();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      if (attempts.incrementAndGet() == 6) {
+        slowAttemptThread.set(Thread.currentThread());
+        Thread.sleep(2000);
+        return new FormDataValidationDto();
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    var formData = formData();
+    var start = System.nanoTime();
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isSameAs(formData);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    assertThat(slowAttemptThread.get()).isNotSameAs(Thread.currentThread());
+    assertThat(count("form.validation.client.hedge.sent")).isEqualTo(1);
+  }
+
+  @Test
+  public void testStopWaitingForAttemptsAtDeadline() {
+    var client = new HedgingFormValidationClient(delegate, properties(1.0), meterRegistry);
+    var attempts = new AtomicInteger();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      if (attempts.incrementAndGet() > 5) {
+        Thread.sleep(2000);
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    var start = System.nanoTime();
+    assertThrows(DeadlineExceededException.class, () -> Deadline.call(Duration.ofMillis(300),
+        () -> client.validateFormData("formId", formData())));
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void testNotHedgeAfterClose() throws Exception {
+    var client = new HedgingFormValidationClient(delegate, properties(1.0), meterRegistry);
+    var attempts = new AtomicInteger();
+    when(delegate.validateFormData(eq("formId"), any())).thenAnswer(invocation -> {
+      abortable();
+      if (attempts.incrementAndGet() == 6) {
+        Thread.sleep(300);
+      }
+      return invocation.getArgument(1);
+    });
+    warmUp(client);
+
+    new CoalescingFormValidationClient(client, new ObjectMapper(), new CoalescingProperties())
+        .close();
+    var formData = formData();
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isSameAs(formData);
+    verify(delegate, times(6)).validateFormData(eq("formId"), any());
+    assertThat(count("form.validation.client.hedge.sent")).isZero();
+  }
+
+  private static void abortable() {
+    Cancellation.current().orElseThrow().onCancel(() -> {
+    });
+  }
+
+  private void warmUp(HedgingFormValidationClient client) {
+    for (var i = 0; i < 5; i++) {
+      client.validateFormData("formId", formData());
+    }
+  }
+
+  private double awaitCount(String name, double expected) throws InterruptedException {
+    for (var i = 0; i < 50 && count(name) < expected; i++) {
+      Thread.sleep(100);
+    }
+    return count(name);
+  }
+
+  private double count(String name) {
+    return meterRegistry.get(name).tag("method", "validateFormData").counter().count();
+  }
+
+  private static HedgingProperties properties(double budget) {
+    var properties = new HedgingProperties();
+    properties.setBudget(budget);
+    properties.setMinDelay(Duration.ofMillis(50));
+    properties.setSampleSize(10);
+    properties.setMinSamples(5);
+    return properties;
+  }
+
+  private static FormDataValidationDto formData() {
+    var data = new LinkedHashMap<String, Object>();
+    data.put("name", "value");
+    return FormDataValidationDto.builder().data(data).build();
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationAutoConfiguration;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+@EnableAutoConfiguration
+@SpringBootTest(classes = InProcessFormValidationClientIT.Handler.class,
+    properties = "form-submission-validation.binding=in-process")
+public class InProcessFormValidationClientIT {
+
+  @Autowired
+  private FormValidationClient formValidationClient;
+  @Autowired
+  private Handler handler;
+
+  @Test
+  public void testBindPrimaryClientToHandler() {
+    assertThat(formValidationClient).isInstanceOf(InProcessFormValidationClient.class);
+  }
+
+  @Test
+  public void testReturnCopyOfValidatedData() {
+    var formData = formData("value");
+
+    var result = formValidationClient.validateFormData("formId", formData);
+
+    assertThat(result).isEqualTo(formData).isNotSameAs(handler.received.get());
+    assertThat(handler.received.get()).isEqualTo(formData).isNotSameAs(formData);
+  }
+
+  @Test
+  public void testRethrowValidationError() {
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> formValidationClient.validateFormData("formId", formData("invalid")));
+
+    assertThat(ex.getErrors().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(ex.getErrors().getDetails().getErrors()).hasSize(1);
+  }
+
+  @Test
+  public void testValidateBatchWithHandler() {
+    var results = formValidationClient.validateFormDataBatch("formId",
+        List.of(formData("value"), formData("invalid")));
+
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).isValid()).isTrue();
+    assertThat(results.get(1).isValid()).isFalse();
+    assertThat(results.get(1).getErrors().getCode()).isEqualTo("VALIDATION_ERROR");
+  }
+
+  @Test
+  public void testReturnCopyOfInvalidDataInBatch() {
+    var invalid = formData("invalid");
+
+    var results = formValidationClient.validateFormDataBatch("formId", List.of(invalid));
+
+    assertThat(results.get(0).getFormData()).isEqualTo(invalid).isNotSameAs(invalid);
+  }
+
+  @Test
+  public void testKeepMissingErrorsOfValidationError() {
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> formValidationClient.validateFormData("formId", formData("no-errors")));
+
+    assertThat(ex.getErrors()).isNull();
+  }
+
+  @Test
+  public void testPassValuesAsIsIfCopyingIsDisabled() {
+    contextRunner()
+        .withBean(Handler.class)
+        .withPropertyValues("form-submission-validation.binding=in-process",
+            "form-submission-validation.in-process.copy=false")
+        .run(context -> {
+          var formData = formData("value");
+
+          var result = context.getBean(FormValidationClient.class)
+              .validateFormData("formId", formData);
+
+          assertThat(result).isSameAs(formData);
+          assertThat(context.getBean(Handler.class).received.get()).isSameAs(formData);
+        });
+  }
+
+  @Test
+  public void testCheckFieldNamesAndFileWithHandler() {
+    assertDoesNotThrow(() -> formValidationClient.checkFieldNames("formId",
+        FormFieldListValidationDto.builder().fields(List.of("name")).build()));
+    assertDoesNotThrow(() -> formValidationClient.validateFileField("formId", "file",
+        FileDataValidationDto.builder().build()));
+    assertThrows(SubmissionValidationException.class,
+        () -> formValidationClient.checkFieldNames("formId",
+            FormFieldListValidationDto.builder().fields(List.of("unknown")).build()));
+  }
+
+  @Test
+  public void testValidatePartialDataWithHandler() {
+    var formData = formData("value");
+
+    var result = formValidationClient.validatePartialFormData("formId", formData);
+
+    assertThat(result).isEqualTo(formData).isNotSameAs(formData);
+    assertThat(handler.received.get()).isEqualTo(formData).isNotSameAs(formData);
+  }
+
+  @Test
+  public void testBindInProcessClientByRelaxedValue() {
+    contextRunner()
+        .withBean(Handler.class)
+        .withPropertyValues("form-submission-validation.binding=IN_PROCESS")
+        .run(context -> assertThat(context.getBean(FormValidationClient.class))
+            .isInstanceOf(InProcessFormValidationClient.class));
+    contextRunner()
+        .withBean(Handler.class)
+        .withPropertyValues("form-submission-validation.binding=in_process")
+        .run(context -> assertThat(context.getBean(FormValidationClient.class))
+            .isInstanceOf(InProcessFormValidationClient.class));
+  }
+
+  @Test
+  public void testFailToStartWithoutHandler() {
+    contextRunner()
+        .withPropertyValues("form-submission-validation.binding=in-process")
+        .run(context -> assertThat(context).getFailure()
+            .hasRootCauseInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage(
+                "In-process binding requires a FormValidationHandler bean to be defined"));
+  }
+
+  private static ApplicationContextRunner contextRunner() {
+    return new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(FormValidationAutoConfiguration.class));
+  }
+
+  private static FormDataValidationDto formData(String value) {
+    return FormDataValidationDto.builder()
+        .data(new LinkedHashMap<>(Map.of("name", value)))
+        .build();
+  }
+
+  public static class Handler implements FormValidationHandler {
+
+    private final AtomicReference<FormDataValidationDto> received = new AtomicReference<>();
+
+    @Override
+    public FormDataValidationDto validateFormData(String formKey,
+        FormDataValidationDto formData) {
+      received.set(formData);
+      if ("no-errors".equals(formData.getData().get("name"))) {
+        throw new SubmissionValidationException(null);
+      }
+      if ("invalid".equals(formData.getData().get("name"))) {
+        throw new SubmissionValidationException(ValidationErrorDto.builder()
+            .code("VALIDATION_ERROR")
+            .details(new ErrorsListDto(List.of(ErrorDetailDto.builder()
+                .field("name")
+                .message("invalid")
+                .build())))
+            .build());
+      }
+      return formData;
+    }
+
+    @Override
+    public void validateFileField(String formKey, String fieldKey,
+        FileDataValidationDto fileData) {
+    }
+
+    @Override
+    public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+      if (!fields.getFields().contains("name")) {
+        throw new SubmissionValidationException(ValidationErrorDto.builder()
+            .code("UNKNOWN_FIELDS")
+            .build());
+      }
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.formprovider.cache.FormDataSnapshotCache;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.IncrementalProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalFormValidationClientIT {
+
+  private final FormValidationClient delegate = mock(FormValidationClient.class);
+  private final FormDataSnapshotCache snapshotCache = new FormDataSnapshotCache(
+      new IncrementalProperties());
+
+  @BeforeEach
+  public void setUp() {
+    when(delegate.validateFormData(eq("formId"), any()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+    when(delegate.validatePartialFormData(eq("formId"), any()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+  }
+
+  @Test
+  public void testSkipRemoteCallIfNothingChanged() {
+    var client = client(false);
+
+    var first = client.validateFormData("formId", formData("name", "value"));
+    var second = client.validateFormData("formId", formData("name", "value"));
+
+    assertThat(second).isEqualTo(first);
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testSendOnlyChangedFields() {
+    var client = client(true);
+    client.validateFormData("formId", formData("name", "value"));
+
+    var result = client.validateFormData("formId", formData("name", "changed"));
+
+    assertThat(result.getData()).containsEntry("name", "changed").containsEntry("edrpou", "1");
+    verify(delegate).validatePartialFormData(eq("formId"),
+        argThat(partial -> partial.getData().keySet().equals(Set.of("name"))));
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testFallBackToFullValidationIfPartialIsNotSupported() {
+    var client = client(true);
+    var request = Request.create(HttpMethod.POST, "/", Map.of(), null, StandardCharsets.UTF_8,
+        null);
+    when(delegate.validatePartialFormData(eq("formId"), any()))
+        .thenThrow(new FeignException.NotFound("not found", request, null, Map.of()));
+    client.validateFormData("formId", formData("name", "value"));
+
+    client.validateFormData("formId", formData("name", "changed"));
+    client.validateFormData("formId", formData("name", "changed again"));
+
+    verify(delegate, times(1)).validatePartialFormData(eq("formId"), any());
+    verify(delegate, times(3)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testProbePartialEndpointAgainAfterInterval() {
+    var client = new IncrementalFormValidationClient(delegate, snapshotCache, new ObjectMapper(),
+        true, Duration.ZERO);
+    var request = Request.create(HttpMethod.POST, "/", Map.of(), null, StandardCharsets.UTF_8,
+        null);
+    when(delegate.validatePartialFormData(eq("formId"), any()))
+        .thenThrow(new FeignException.NotFound("not found", request, null, Map.of()));
+    client.validateFormData("formId", formData("name", "value"));
+
+    client.validateFormData("formId", formData("name", "changed"));
+    client.validateFormData("formId", formData("name", "changed again"));
+
+    verify(delegate, times(2)).validatePartialFormData(eq("formId"), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testNotShareNestedDataWithCachedResult() {
+    var client = client(false);
+    var first = client.validateFormData("formId", formDataWithAddress("Main"));
+    ((Map<String, Object>) first.getData().get("address")).put("street", "Changed");
+
+    var second = client.validateFormData("formId", formDataWithAddress("Main"));
+    ((Map<String, Object>) second.getData().get("address")).put("street", "Changed");
+    var third = client.validateFormData("formId", formDataWithAddress("Main"));
+
+    assertThat(second.getData().get("address")).isNotSameAs(third.getData().get("address"));
+    assertThat((Map<String, Object>) third.getData().get("address"))
+        .containsEntry("street", "Main");
+    verify(delegate, times(1)).validateFormData(eq("formId"), any());
+  }
+
+  @Test
+  public void testRevalidateAfterValidationError() {
+    var client = client(false);
+    client.validateFormData("formId", formData("name", "value"));
+    when(delegate.validateFormData(eq("formId"), any()))
+        .thenThrow(new SubmissionValidationException(new ValidationErrorDto()));
+
+    assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData("name", "")));
+    assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData("name", "value")));
+  }
+
+  private IncrementalFormValidationClient client(boolean partial) {
+    return new IncrementalFormValidationClient(delegate, snapshotCache, new ObjectMapper(),
+        partial, new IncrementalProperties().getPartialProbeInterval());
+  }
+
+  private FormDataValidationDto formDataWithAddress(String street) {
+    var address = new LinkedHashMap<String, Object>();
+    address.put("street", street);
+    var formData = formData("name", "value");
+    formData.getData().put("address", address);
+    return formData;
+  }
+
+  private FormDataValidationDto formData(String field, String value) {
+    var data = new LinkedHashMap<String, Object>();
+    data.put(field, value);
+    data.put("edrpou", "1");
+    return FormDataValidationDto.builder().data(data).processInstanceId("processId").build();
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.FormSchemaCacheProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.ComponentsDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.NestedComponentDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormSchema;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormSchemaRepository;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class SchemaAwareFormValidationClientIT {
+
+  private final FormValidationClient delegate = mock(FormValidationClient.class);
+  private final FormSchemaRepository formSchemaRepository = mock(FormSchemaRepository.class);
+  private final SchemaAwareFormValidationClient client =
+      new SchemaAwareFormValidationClient(delegate, formSchemaRepository, true, true);
+
+  @Test
+  public void testCheckFieldNamesByLoadedSchema() {
+    var schema = new FormSchema("formId", form(), null);
+    when(formSchemaRepository.findOrLoad("formId")).thenReturn(Optional.of(schema));
+
+    assertDoesNotThrow(() -> client.checkFieldNames("formId", fields("name", "street")));
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> client.checkFieldNames("formId", fields("field1", "name", "field2", "field1")));
+
+    assertThat(ex.getErrors().getMessage()).isEqualTo(
+        "Task form does not have fields with names field1, field2");
+    assertThat(ex.getErrors().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(ex.getErrors().getDetails().getErrors())
+        .extracting(ErrorDetailDto::getField)
+        .containsExactly("field1", "field2");
+    assertThat(schema.getFieldIndex().size()).isEqualTo(4);
+    assertThat(schema.getFieldIndex().typeOf("street")).contains("textfield");
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  public void testUseRemoteCheckIfSchemaIsNotLoaded() {
+    var fields = fields("name");
+    when(formSchemaRepository.findOrLoad("formId")).thenReturn(Optional.empty());
+
+    client.checkFieldNames("formId", fields);
+
+    verify(delegate).checkFieldNames("formId", fields);
+  }
+
+  @Test
+  public void testCheckFieldNamesLocallyOnceSchemaIsLoadedOnMiss() throws Exception {
+    var formSchemaClient = mock(FormSchemaClient.class);
+    var objectMapper = new ObjectMapper();
+    when(formSchemaClient.getForm("formId", null)).thenReturn(Response.builder()
+        .status(200)
+        .request(Request.create(HttpMethod.GET, "/forms/formId", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .body(objectMapper.writeValueAsBytes(form()))
+        .build());
+    var repository = new FormSchemaRepository(formSchemaClient, objectMapper,
+        new FormSchemaCacheProperties());
+    var loadingClient = new SchemaAwareFormValidationClient(delegate, repository, true, false);
+    var fields = fields("name");
+
+    try {
+      loadingClient.checkFieldNames("formId", fields);
+      for (var i = 0; i < 50 && repository.findLoaded("formId").isEmpty(); i++) {
+        Thread.sleep(20);
+      }
+      loadingClient.checkFieldNames("formId", fields);
+      assertThrows(SubmissionValidationException.class,
+          () -> loadingClient.checkFieldNames("formId", fields("unknown")));
+    } finally {
+      repository.shutdown();
+    }
+
+    verify(delegate, times(1)).checkFieldNames("formId", fields);
+    verify(formSchemaClient, times(1)).getForm("formId", null);
+  }
+
+  @Test
+  public void testRejectFileOfUnsupportedTypeLocally() {
+    when(formSchemaRepository.findOrLoad("formId"))
+        .thenReturn(Optional.of(new FormSchema("formId", form(), null)));
+
+    var typeError = assertThrows(SubmissionValidationException.class,
+        () -> client.validateFileField("formId", "document", file("scan.exe", "app/x", 100L)));
+
+    assertThat(typeError.getErrors().getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(typeError.getErrors().getDetails().getErrors().get(0).getMessage())
+        .isEqualTo("The type of the downloaded file is not supported.");
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  public void testLeaveSizeViolationsToServer() {
+    when(formSchemaRepository.findOrLoad("formId"))
+        .thenReturn(Optional.of(new FormSchema("formId", form(), null)));
+    var tooLarge = file("scan.pdf", "application/pdf", 3L * 1024 * 1024);
+    var borderline = file("scan.pdf", "application/pdf", 2_050_000L);
+    var tooLargeOfUnsupportedType = file("scan.exe", "app/x", 3L * 1024 * 1024);
+
+    client.validateFileField("formId", "document", tooLarge);
+    client.validateFileField("formId", "document", borderline);
+    client.validateFileField("formId", "document", tooLargeOfUnsupportedType);
+
+    verify(delegate).validateFileField("formId", "document", tooLarge);
+    verify(delegate).validateFileField("formId", "document", borderline);
+    verify(delegate).validateFileField("formId", "document", tooLargeOfUnsupportedType);
+  }
+
+  @Test
+  public void testAcceptMatchingFileLocallyAndDelegateAmbiguousOne() {
+    when(formSchemaRepository.findOrLoad("formId"))
+        .thenReturn(Optional.of(new FormSchema("formId", form(), null)));
+    var unknownSize = file("photo.JPG", null, null);
+
+    client.validateFileField("formId", "document", file("photo.jpg", "image/jpeg", 1024L));
+    client.validateFileField("formId", "document", file("scan.pdf", null, 1024L));
+    client.validateFileField("formId", "document", unknownSize);
+
+    verify(delegate).validateFileField("formId", "document", unknownSize);
+  }
+
+  @Test
+  public void testValidateFileRemotelyByDefault() {
+    var properties = new FormSchemaCacheProperties();
+    var defaultClient = new SchemaAwareFormValidationClient(delegate, formSchemaRepository,
+        properties.isLocalFieldNamesCheck(), properties.isLocalFileCheck());
+    when(formSchemaRepository.findOrLoad("formId"))
+        .thenReturn(Optional.of(new FormSchema("formId", form(), null)));
+    var matching = file("photo.jpg", "image/jpeg", 1024L);
+
+    defaultClient.validateFileField("formId", "document", matching);
+
+    verify(delegate).validateFileField("formId", "document", matching);
+  }
+
+  private static FileDataValidationDto file(String fileName, String contentType, Long size) {
+    return FileDataValidationDto.builder()
+        .documentKey("documentKey")
+        .fileName(fileName)
+        .contentType(contentType)
+        .size(size)
+        .build();
+  }
+
+  private static FormDto form() {
+    var street = new NestedComponentDto("street", "textfield", null, null, null, null);
+    return new FormDto(List.of(
+        ComponentsDto.builder().key("name").type("textfield").build(),
+        ComponentsDto.builder().key("address").type("container")
+            .components(List.of(street)).build(),
+        ComponentsDto.builder().key("document").type("file")
+            .filePattern("image/*, *.pdf").fileMaxSize("2MB").build()));
+  }
+
+  private static FormFieldListValidationDto fields(String... names) {
+    return FormFieldListValidationDto.builder().fields(List.of(names)).build();
+  }
+}
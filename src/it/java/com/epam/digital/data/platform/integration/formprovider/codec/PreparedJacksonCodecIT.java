@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationAsyncClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestTemplate;
+import feign.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
+
+public class PreparedJacksonCodecIT {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void testEncodeSameAsObjectMapper() throws IOException {
+    var codec = codec(objectMapper);
+    var formData = formData();
+    var template = new RequestTemplate();
+
+    codec.encode(formData, FormDataValidationDto.class, template);
+
+    assertThat(template.body()).isEqualTo(objectMapper.writeValueAsBytes(formData));
+    assertThat(template.headers().get("Content-Type")).containsExactly("application/json");
+  }
+
+  @Test
+  public void testDecodeGenericResponse() throws IOException {
+    var codec = codec(objectMapper);
+    var results = List.of(FormDataValidationResultDto.builder().formData(formData()).build());
+    var type = new ParameterizedTypeReference<List<FormDataValidationResultDto>>() {
+    }.getType();
+
+    var decoded = codec.decode(response(objectMapper.writeValueAsBytes(results)), type);
+
+    assertThat(decoded).isEqualTo(results);
+  }
+
+  @Test
+  public void testDecodeEmptyBodyAsNull() throws IOException {
+    assertThat(codec(objectMapper).decode(response(new byte[0]), FormDataValidationDto.class))
+        .isNull();
+  }
+
+  @Test
+  public void testDelegateResponseEntity() throws IOException {
+    var codec = new PreparedJacksonCodec(objectMapper, "application/json",
+        (response, type) -> "fallback");
+    var type = new ParameterizedTypeReference<ResponseEntity<FormDataValidationDto>>() {
+    }.getType();
+
+    assertThat(codec.decode(response(new byte[0]), type)).isEqualTo("fallback");
+  }
+
+  @Test
+  public void testUseGeneratedAccessors() throws IOException {
+    var codec = codec(AccessorModule.BLACKBIRD.apply(objectMapper));
+    var formData = formData();
+    var template = new RequestTemplate();
+
+    codec.encode(formData, FormDataValidationDto.class, template);
+
+    assertThat(codec.decode(response(template.body()), FormDataValidationDto.class))
+        .isEqualTo(formData);
+  }
+
+  @Test
+  public void testPrepareBodiesDescribedByContract() throws IOException {
+    var prepared = new ArrayList<JavaType>();
+    var mapper = new ObjectMapper() {
+      @Override
+      public ObjectWriter writerFor(JavaType type) {
+        prepared.add(type);
+        return super.writerFor(type);
+      }
+
+      @Override
+      public ObjectReader readerFor(JavaType type) {
+        prepared.add(type);
+        return super.readerFor(type);
+      }
+    };
+    var codec = codec(mapper).prepare(new SpringMvcContract(), FormValidationClient.class)
+        .prepare(new SpringMvcContract(), FormValidationAsyncClient.class);
+    var typeFactory = mapper.getTypeFactory();
+
+    assertThat(prepared).containsExactlyInAnyOrder(
+        typeFactory.constructType(FormDataValidationDto.class),
+        typeFactory.constructType(FormDataValidationDto.class),
+        typeFactory.constructCollectionType(List.class, FormDataValidationDto.class),
+        typeFactory.constructCollectionType(List.class, FormDataValidationResultDto.class),
+        typeFactory.constructType(FileDataValidationDto.class),
+        typeFactory.constructType(FormFieldListValidationDto.class));
+
+    var template = new RequestTemplate();
+    codec.encode(formData(), FormDataValidationDto.class, template);
+    codec.decode(response(template.body()), FormDataValidationDto.class);
+
+    assertThat(prepared).hasSize(6);
+  }
+
+  private PreparedJacksonCodec codec(ObjectMapper mapper) {
+    return new PreparedJacksonCodec(mapper, "application/json", null);
+  }
+
+  private FormDataValidationDto formData() {
+    var data = new LinkedHashMap<String, Object>();
+    data.put("name", "value");
+    data.put("amount", 10);
+    return FormDataValidationDto.builder().data(data).processInstanceId("processId").build();
+  }
+
+  private Response response(byte[] body) {
+    return Response.builder()
+        .status(200)
+        .request(Request.create(HttpMethod.POST, "http://localhost/validate", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .body(body)
+        .build();
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FeignConfig;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class WireFormatCapabilityIT {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ObjectMapper smileMapper = WireFormat.SMILE.mapper(objectMapper);
+  private final WireFormatCapability capability = new WireFormatCapability(WireFormat.SMILE,
+      objectMapper, Duration.ofMinutes(10));
+
+  @Test
+  public void testEncodeAndDecodeBinaryBody() throws IOException {
+    var formData = formData();
+    var template = new RequestTemplate();
+
+    Encoder jsonEncoder = (object, bodyType, request) -> {
+      throw new IllegalStateException("JSON encoder is not expected");
+    };
+    capability.enrich(jsonEncoder).encode(formData, FormDataValidationDto.class, template);
+
+    assertThat(template.headers().get("Content-Type"))
+        .containsExactly(WireFormat.SMILE.getMediaType());
+    assertThat(template.headers().get("Accept"))
+        .containsExactly(WireFormat.SMILE.getMediaType(), WireFormat.JSON.getMediaType());
+    assertThat(smileMapper.readValue(template.body(), FormDataValidationDto.class))
+        .isEqualTo(formData);
+
+    var response = response(200, WireFormat.SMILE, template.body());
+    Decoder jsonDecoder = (resp, type) -> {
+      throw new IllegalStateException("JSON decoder is not expected");
+    };
+    var decoded = capability.enrich(jsonDecoder).decode(response, FormDataValidationDto.class);
+
+    assertThat(decoded).isEqualTo(formData);
+  }
+
+  @Test
+  public void testRegisterCapabilityOnlyForBinaryFormat() {
+    var contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(FeignConfig.class);
+
+    contextRunner.run(context -> assertThat(context)
+        .doesNotHaveBean(WireFormatCapability.class));
+    contextRunner.withPropertyValues("form-submission-validation.wire-format.type=JSON")
+        .run(context -> assertThat(context).doesNotHaveBean(WireFormatCapability.class));
+    contextRunner.withPropertyValues("form-submission-validation.wire-format.type=smile")
+        .run(context -> assertThat(context).hasSingleBean(WireFormatCapability.class));
+  }
+
+  @Test
+  public void testFallBackToJsonIfBinaryIsNotSupported() throws IOException {
+    var sent = new ArrayList<Request>();
+    Client server = (request, options) -> {
+      sent.add(request);
+      var binary = WireFormat.of(request.headers().get("Content-Type")).isBinary();
+      return response(binary ? 415 : 200, WireFormat.JSON, request.body());
+    };
+    var formData = formData();
+    var template = new RequestTemplate();
+    Encoder jsonEncoder = (object, bodyType, request) -> {
+    };
+    capability.enrich(jsonEncoder).encode(formData, FormDataValidationDto.class, template);
+
+    var response = capability.enrich(server).execute(request(template), new Options());
+
+    assertThat(response.status()).isEqualTo(200);
+    assertThat(sent).hasSize(2);
+    assertThat(objectMapper.readValue(sent.get(1).body(), FormDataValidationDto.class))
+        .isEqualTo(formData);
+    assertThat(capability.isBinaryActive()).isFalse();
+  }
+
+  @Test
+  public void testEnrichBothRolesOfCombinedCodec() throws IOException {
+    var codec = new PreparedJacksonCodec(objectMapper, WireFormat.JSON.getMediaType(), null);
+    var formData = formData();
+    var template = new RequestTemplate();
+
+    Object enriched = Capability.enrich((Object) codec, List.of(capability));
+    ((Encoder) enriched).encode(formData, FormDataValidationDto.class, template);
+    var decoded = ((Decoder) enriched).decode(response(200, WireFormat.SMILE, template.body()),
+        FormDataValidationDto.class);
+
+    assertThat(template.headers().get("Content-Type"))
+        .containsExactly(WireFormat.SMILE.getMediaType());
+    assertThat(decoded).isEqualTo(formData);
+  }
+
+  @Test
+  public void testKeepSerializersOfRegisteredModules() throws IOException {
+    var base = new ObjectMapper().registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    var date = LocalDate.of(2023, 1, 2);
+
+    for (var format : List.of(WireFormat.SMILE, WireFormat.CBOR)) {
+      var mapper = format.mapper(base);
+      var body = mapper.writeValueAsBytes(Map.of("date", date));
+
+      assertThat(mapper.readTree(body).get("date").asText()).isEqualTo("2023-01-02");
+      assertThat(mapper.readValue(mapper.writeValueAsBytes(date), LocalDate.class))
+          .isEqualTo(date);
+    }
+  }
+
+  private FormDataValidationDto formData() {
+    var data = new LinkedHashMap<String, Object>();
+    data.put("name", "value");
+    data.put("grid", List.of(Map.of("amount", 10)));
+    return FormDataValidationDto.builder().data(data).processInstanceId("processId").build();
+  }
+
+  private static Request request(RequestTemplate template) {
+    return Request.create(HttpMethod.POST, "http://localhost/validate", template.headers(),
+        template.body(), StandardCharsets.UTF_8, null);
+  }
+
+  private static Response response(int status, WireFormat format, byte[] body) {
+    return Response.builder()
+        .status(status)
+        .request(Request.create(HttpMethod.POST, "http://localhost/validate", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of("Content-Type", List.of(format.getMediaType())))
+        .body(body)
+        .build();
+  }
+}
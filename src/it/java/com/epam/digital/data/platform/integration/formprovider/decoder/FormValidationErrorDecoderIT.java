@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormat;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+public class FormValidationErrorDecoderIT {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void testDecodeValidationError() throws IOException {
+    var decoder = new FormValidationErrorDecoder(objectMapper);
+
+    var ex = decoder.decode("validateFormData", response(422, errorResponse()));
+
+    assertThat(ex).isInstanceOf(SubmissionValidationException.class);
+    var errors = ((SubmissionValidationException) ex).getErrors();
+    assertThat(errors.getTraceId()).isEqualTo("6bf6c1c1d713ec2f");
+    assertThat(errors.getDetails().getErrors()).hasSize(2);
+  }
+
+  @Test
+  public void testDecodeDetailsLazily() throws IOException {
+    var eager = new FormValidationErrorDecoder(objectMapper);
+    var lazy = new FormValidationErrorDecoder(objectMapper,
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, true);
+
+    var expected = ((SubmissionValidationException) eager.decode("validateFormData",
+        response(422, errorResponse()))).getErrors();
+    var actual = ((SubmissionValidationException) lazy.decode("validateFormData",
+        response(422, errorResponse()))).getErrors();
+
+    assertThat(actual.getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(actual.getDetails()).isEqualTo(expected.getDetails());
+  }
+
+  @Test
+  public void testDecodeBinaryValidationError() throws IOException {
+    var decoder = new FormValidationErrorDecoder(objectMapper,
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, true);
+    var smileMapper = WireFormat.SMILE.mapper(objectMapper);
+    var body = smileMapper.writeValueAsBytes(objectMapper.readTree(errorResponse()));
+
+    var ex = decoder.decode("validateFormData", response(422, body,
+        Map.of("Content-Type", List.of(WireFormat.SMILE.getMediaType()))));
+
+    assertThat(ex).isInstanceOf(SubmissionValidationException.class);
+    var errors = ((SubmissionValidationException) ex).getErrors();
+    assertThat(errors.getTraceId()).isEqualTo("6bf6c1c1d713ec2f");
+    assertThat(errors.getDetails().getErrors()).hasSize(2);
+  }
+
+  @Test
+  public void testCreateLightweightExceptionParsedOnDemand() throws IOException {
+    var decoder = new FormValidationErrorDecoder(objectMapper,
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, true, true);
+
+    var ex = decoder.decode("validateFormData", response(422, errorResponse()));
+
+    assertThat(ex).isInstanceOf(SubmissionValidationException.class);
+    assertThat(ex.getStackTrace()).isEmpty();
+    var errors = ((SubmissionValidationException) ex).getErrors();
+    assertThat(errors.getTraceId()).isEqualTo("6bf6c1c1d713ec2f");
+    assertThat(errors.getDetails().getErrors()).hasSize(2);
+    assertThat(((SubmissionValidationException) ex).getErrors()).isSameAs(errors);
+  }
+
+  @Test
+  public void testReportUnparsableBodyOfLightweightException() {
+    var decoder = new FormValidationErrorDecoder(objectMapper,
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, false, true);
+
+    var ex = (SubmissionValidationException) decoder.decode("validateFormData",
+        response(422, "not json".getBytes(StandardCharsets.UTF_8)));
+
+    var errors = ex.getErrors();
+    assertThat(errors.getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(errors.getMessage()).startsWith("Failed to decode validation error response: ");
+    assertThat(errors.getDetails().getErrors()).isEmpty();
+  }
+
+  @Test
+  public void testSerializeExceptionWithParsedErrors() throws Exception {
+    var eager = (SubmissionValidationException) new FormValidationErrorDecoder(objectMapper)
+        .decode("validateFormData", response(422, errorResponse()));
+    var lightweight = (SubmissionValidationException) new FormValidationErrorDecoder(
+        objectMapper, FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, false, true)
+        .decode("validateFormData", response(422, errorResponse()));
+
+    for (var ex : List.of(eager, lightweight)) {
+      var errors = deserialize(serialize(ex)).getErrors();
+
+      assertThat(errors.getTraceId()).isEqualTo("6bf6c1c1d713ec2f");
+      assertThat(errors.getCode()).isEqualTo(eager.getErrors().getCode());
+      assertThat(errors.getMessage()).isEqualTo(eager.getErrors().getMessage());
+      assertThat(errors.getDetails().getErrors())
+          .isEqualTo(eager.getErrors().getDetails().getErrors());
+    }
+  }
+
+  @Test
+  public void testReportTooLargeBody() throws IOException {
+    var decoder = new FormValidationErrorDecoder(objectMapper, 64, false);
+
+    var ex = decoder.decode("validateFormData", response(422, errorResponse()));
+
+    assertThat(ex).isInstanceOf(SubmissionValidationException.class);
+    var errors = ((SubmissionValidationException) ex).getErrors();
+    assertThat(errors.getMessage()).isEqualTo("Validation error response exceeds 64 bytes");
+    assertThat(errors.getCode()).isEqualTo("VALIDATION_ERROR");
+    assertThat(errors.getDetails().getErrors()).isEmpty();
+  }
+
+  @Test
+  public void testDelegateOtherStatuses() {
+    var decoder = new FormValidationErrorDecoder(objectMapper);
+
+    var ex = decoder.decode("validateFormData", response(500, new byte[0]));
+
+    assertThat(ex).isInstanceOf(FeignException.class);
+    assertThat(((FeignException) ex).status()).isEqualTo(500);
+  }
+
+  private byte[] errorResponse() throws IOException {
+    return ByteStreams.toByteArray(Objects.requireNonNull(
+        getClass().getResourceAsStream("/json/error_validation_response.json")));
+  }
+
+  private Response response(int status, byte[] body) {
+    return response(status, body, Map.of());
+  }
+
+  private Response response(int status, byte[] body, Map<String, Collection<String>> headers) {
+    var request = Request.create(HttpMethod.POST, "/api/form-submissions/formId/validate",
+        Map.of(), null, StandardCharsets.UTF_8, null);
+    return Response.builder().status(status).request(request).headers(headers).body(body)
+        .build();
+  }
+
+  private static byte[] serialize(Object object) throws IOException {
+    var out = new ByteArrayOutputStream();
+    try (var objectOut = new ObjectOutputStream(out)) {
+      objectOut.writeObject(object);
+    }
+    return out.toByteArray();
+  }
+
+  private static SubmissionValidationException deserialize(byte[] bytes) throws Exception {
+    try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (SubmissionValidationException) in.readObject();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+public class LoadBalancingCapabilityIT {
+
+  private static final URI FIRST = URI.create("http://first:8080");
+  private static final URI SECOND = URI.create("http://second:8080");
+
+  private final MutableClock clock = new MutableClock();
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void testPickInstanceWithLeastOutstandingRequests() {
+    var loadBalancer = loadBalancer(new SimpleMeterRegistry());
+
+    var busy = loadBalancer.choose();
+    var picked = loadBalancer.choose();
+
+    assertThat(picked).isNotSameAs(busy);
+    loadBalancer.onSuccess(busy, 1000);
+    loadBalancer.onSuccess(picked, 1000);
+    assertThat(loadBalancer.getInstances()).allMatch(instance -> instance.getOutstanding() == 0);
+  }
+
+  @Test
+  public void testSendRequestToInstanceAndKeepOtherUrls() throws IOException {
+    var client = new LoadBalancingCapability("http://form-validation/", loadBalancer(null))
+        .enrich(respond(200));
+
+    client.execute(request("http://form-validation/api/form-submissions/form/validate"),
+        new Options());
+    client.execute(request("http://form-provider/api/forms/form"), new Options());
+
+    assertThat(sent.get(0)).matches("http://(first|second):8080/api/form-submissions/form/validate");
+    assertThat(sent.get(1)).isEqualTo("http://form-provider/api/forms/form");
+  }
+
+  @Test
+  public void testEjectFailingInstanceForCoolDown() throws IOException {
+    var meterRegistry = new SimpleMeterRegistry();
+    var loadBalancer = loadBalancer(meterRegistry);
+    var client = new LoadBalancingCapability("http://form-validation", loadBalancer)
+        .enrich((Client) (request, options) -> {
+          sent.add(request.url());
+          var status = request.url().startsWith(FIRST.toString()) ? 503 : 200;
+          return Response.builder().status(status).request(request).headers(Map.of()).build();
+        });
+
+    for (var i = 0; i < 20; i++) {
+      client.execute(request("http://form-validation/api"), new Options());
+    }
+    var first = loadBalancer.getInstances().stream()
+        .filter(instance -> instance.getUri().equals(FIRST))
+        .findFirst().orElseThrow();
+    assertThat(first.isEjected()).isTrue();
+    assertThat(meterRegistry.get("form.validation.client.instance.ejections")
+        .tag("instance", FIRST.toString()).functionCounter().count()).isEqualTo(1);
+
+    sent.clear();
+    for (var i = 0; i < 5; i++) {
+      client.execute(request("http://form-validation/api"), new Options());
+    }
+    assertThat(sent).allMatch(url -> url.startsWith(SECOND.toString()));
+
+    clock.millis += Duration.ofSeconds(30).toMillis();
+    sent.clear();
+    for (var i = 0; i < 10; i++) {
+      client.execute(request("http://form-validation/api"), new Options());
+    }
+    assertThat(sent).anyMatch(url -> url.startsWith(FIRST.toString()));
+  }
+
+  @Test
+  public void testKeepRequestOutstandingUntilBodyIsClosed() throws IOException {
+    var loadBalancer = loadBalancer(null);
+    var client = new LoadBalancingCapability("http://form-validation", loadBalancer)
+        .enrich((Client) (request, options) -> Response.builder().status(200).request(request)
+            .headers(Map.of()).body("{}", StandardCharsets.UTF_8).build());
+
+    var response = client.execute(request("http://form-validation/api"), new Options());
+
+    assertThat(loadBalancer.getInstances().stream().mapToInt(Instance::getOutstanding).sum())
+        .isEqualTo(1);
+    response.body().asInputStream().readAllBytes();
+    response.close();
+    assertThat(loadBalancer.getInstances()).allMatch(instance -> instance.getOutstanding() == 0);
+  }
+
+  @Test
+  public void testForgetInstanceNoLongerListed() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var listed = new CopyOnWriteArrayList<>(List.of(FIRST, SECOND));
+    var loadBalancer = new LoadBalancer("test", () -> List.copyOf(listed), Duration.ofSeconds(30),
+        10, 4, 0.5, Duration.ofSeconds(2), Duration.ofSeconds(30), 50, clock, meterRegistry);
+    loadBalancer.onSuccess(loadBalancer.choose(), 1000);
+    var second = loadBalancer.getInstances().get(1);
+
+    listed.remove(FIRST);
+    clock.millis += Duration.ofSeconds(30).toMillis();
+    loadBalancer.onSuccess(loadBalancer.choose(), 1000);
+
+    assertThat(loadBalancer.getInstances()).containsExactly(second);
+    assertThat(meterRegistry.find("form.validation.client.instance.requests")
+        .tag("instance", FIRST.toString()).meters()).isEmpty();
+    assertThat(meterRegistry.getMeters()).hasSize(6)
+        .allMatch(meter -> SECOND.toString().equals(meter.getId().getTag("instance")));
+
+    listed.add(FIRST);
+    clock.millis += Duration.ofSeconds(30).toMillis();
+    loadBalancer.onSuccess(loadBalancer.choose(), 1000);
+
+    assertThat(loadBalancer.getInstances()).hasSize(2).contains(second);
+    assertThat(meterRegistry.getMeters()).hasSize(12);
+  }
+
+  private LoadBalancer loadBalancer(SimpleMeterRegistry meterRegistry) {
+    return new LoadBalancer("test", () -> List.of(FIRST, SECOND), Duration.ofSeconds(30), 10, 4,
+        0.5, Duration.ofSeconds(2), Duration.ofSeconds(30), 50, clock, meterRegistry);
+  }
+
+  private Client respond(int status) {
+    return (request, options) -> {
+      sent.add(request.url());
+      return Response.builder().status(status).request(request).headers(Map.of()).build();
+    };
+  }
+
+  private static Request request(String url) {
+    return Request.create(HttpMethod.POST, url, Map.of(), "{}".getBytes(StandardCharsets.UTF_8),
+        StandardCharsets.UTF_8, null);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private long millis;
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+  }
+}
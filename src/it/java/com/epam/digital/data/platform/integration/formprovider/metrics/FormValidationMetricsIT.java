@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FormValidationMetricsIT {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  public void testLimitFormKeyTags() {
+    var metrics = new FormValidationMetrics(meterRegistry, 2);
+
+    metrics.recordCall("validateFormData", "form1", 1000, null);
+    metrics.recordCall("validateFormData", "form2", 1000, null);
+    metrics.recordCall("validateFormData", "form3", 1000, null);
+    metrics.recordCall("validateFormData", "form4", 1000, null);
+
+    assertThat(meterRegistry.get(FormValidationMetrics.CALLS).timers()).hasSize(3);
+    assertThat(meterRegistry.get(FormValidationMetrics.CALLS)
+        .tag("formKey", FormValidationMetrics.OTHER_FORM_KEY).timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  public void testTagServerErrorOutcome() {
+    var metrics = new FormValidationMetrics(meterRegistry, 10);
+    var request = Request.create(HttpMethod.POST, "http://localhost", Map.of(), null,
+        StandardCharsets.UTF_8, null);
+
+    metrics.recordCall("checkFieldNames", "form", 1000,
+        new FeignException.InternalServerError("error", request, null, Map.of()));
+
+    assertThat(meterRegistry.get(FormValidationMetrics.CALLS)
+        .tag("outcome", "server_error").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testReuseRegisteredMeters() {
+    var metrics = new FormValidationMetrics(meterRegistry, 10);
+
+    metrics.recordCall("validateFormData", "form", 1000, null);
+    metrics.recordCall("validateFormData", "form", 1000, null);
+
+    assertThat(meterRegistry.get(FormValidationMetrics.CALLS).timer().count()).isEqualTo(2);
+    assertThat(metrics.errorDecoderTimer(422)).isSameAs(metrics.errorDecoderTimer(422));
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.CircuitBreakerOpenException;
+import com.epam.digital.data.platform.integration.formprovider.exception.ConcurrencyLimitExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ResilienceCapabilityIT {
+
+  @Test
+  public void testRejectCallsAboveLimit() throws Exception {
+    var limiter = new ConcurrencyLimiter(new AimdLimit(1, 1, 10, 0.5, Long.MAX_VALUE));
+    var meterRegistry = new SimpleMeterRegistry();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var client = new ResilienceCapability("test", limiter, null, meterRegistry)
+        .enrich((Client) (request, options) -> {
+          started.countDown();
+          awaitQuietly(release);
+          return response(request, 200);
+        });
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var call = executor.submit(() -> client.execute(request(), new Options()));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> client.execute(request(), new Options()))
+          .isInstanceOf(ConcurrencyLimitExceededException.class);
+      release.countDown();
+      assertThat(call.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(meterRegistry.get("form.validation.client.limiter.rejected").tag("client", "test")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDecreaseLimitOnDroppedCalls() {
+    var limiter = new ConcurrencyLimiter(new AimdLimit(10, 1, 10, 0.5, Long.MAX_VALUE));
+    var client = new ResilienceCapability("test", limiter, null, null)
+        .enrich((Client) (request, options) -> {
+          throw new SocketTimeoutException("Read timed out");
+        });
+
+    assertThatThrownBy(() -> client.execute(request(), new Options()))
+        .isInstanceOf(SocketTimeoutException.class);
+
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  public void testHoldPermitUntilBodyIsClosed() throws IOException {
+    var limiter = new ConcurrencyLimiter(new AimdLimit(10, 1, 10, 0.5, Long.MAX_VALUE));
+    var client = new ResilienceCapability("test", limiter, null, null)
+        .enrich((Client) (request, options) -> response(request, 200, "{}".getBytes()));
+
+    var response = client.execute(request(), new Options());
+
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+    response.body().asInputStream().readAllBytes();
+    response.close();
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  public void testTreatBodyReadFailureAsFailure() throws IOException {
+    var limiter = new ConcurrencyLimiter(new AimdLimit(10, 1, 10, 0.5, Long.MAX_VALUE));
+    var circuitBreaker = new CircuitBreaker(1, 1, 50, Duration.ofMinutes(1), 1,
+        Clock.systemUTC());
+    var client = new ResilienceCapability("test", limiter, circuitBreaker, null)
+        .enrich((Client) (request, options) -> Response.builder()
+            .status(200)
+            .request(request)
+            .headers(Map.of())
+            .body(new InputStream() {
+              @Override
+              public int read() throws IOException {
+                throw new SocketTimeoutException("Read timed out");
+              }
+            }, null)
+            .build());
+
+    var response = client.execute(request(), new Options());
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThatThrownBy(() -> response.body().asInputStream().readAllBytes())
+        .isInstanceOf(SocketTimeoutException.class);
+    response.close();
+
+    assertThat(limiter.getLimit()).isEqualTo(5);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  public void testReleasePermitBetweenRetries() throws IOException {
+    var limiter = new ConcurrencyLimiter(new AimdLimit(10, 1, 10, 0.5, Long.MAX_VALUE));
+    var inFlight = new ArrayList<Integer>();
+    var status = new int[]{503};
+    var resilient = new ResilienceCapability("test", limiter, null, null)
+        .enrich((Client) (request, options) -> {
+          inFlight.add(limiter.getInFlight());
+          var response = response(request, status[0], "{}".getBytes());
+          status[0] = 200;
+          return response;
+        });
+    var client = new RetryCapability("test", 2, Duration.ofMillis(1), Duration.ofMillis(1), 1,
+        1, Duration.ofSeconds(1), null).enrich(resilient);
+
+    try (var response = client.execute(request(), new Options())) {
+      assertThat(response.status()).isEqualTo(200);
+    }
+
+    assertThat(inFlight).containsExactly(1, 1);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  public void testOpenCircuitOnServerErrorsOnly() throws IOException {
+    var circuitBreaker = new CircuitBreaker(4, 4, 50, Duration.ofMinutes(1), 1,
+        Clock.systemUTC());
+    var status = new int[]{422};
+    var client = new ResilienceCapability("test", null, circuitBreaker, null)
+        .enrich((Client) (request, options) -> response(request, status[0]));
+
+    for (var i = 0; i < 4; i++) {
+      client.execute(request(), new Options());
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    status[0] = 503;
+    client.execute(request(), new Options());
+    client.execute(request(), new Options());
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(() -> client.execute(request(), new Options()))
+        .isInstanceOf(CircuitBreakerOpenException.class);
+  }
+
+  @Test
+  public void testCloseCircuitAfterSuccessfulTrialCall() {
+    var clock = new MutableClock();
+    var circuitBreaker = new CircuitBreaker(2, 2, 50, Duration.ofSeconds(30), 1, clock);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    clock.millis += Duration.ofSeconds(30).toMillis();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    circuitBreaker.onSuccess();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  public void testGrowVegasLimitWithoutQueueing() {
+    var limit = new VegasLimit(10, 1, 100);
+
+    for (var i = 0; i < 10; i++) {
+      limit.onSample(1_000_000, 100, false);
+    }
+
+    var grown = limit.getLimit();
+    assertThat(grown).isGreaterThan(10);
+    limit.onSample(10_000_000, grown, false);
+    assertThat(limit.getLimit()).isLessThan(grown);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Response response(Request request, int status, byte[] body) {
+    return Response.builder()
+        .status(status)
+        .request(request)
+        .headers(Map.of())
+        .body(body)
+        .build();
+  }
+
+  private static Response response(Request request, int status) {
+    return Response.builder()
+        .status(status)
+        .request(request)
+        .headers(Map.of())
+        .build();
+  }
+
+  private static Request request() {
+    return Request.create(HttpMethod.POST, "http://localhost/api/form-submissions/form/validate",
+        Map.of(), new byte[0], null, null);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private long millis;
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RetryCapabilityIT {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  @Test
+  public void testRetryServiceUnavailable() throws IOException {
+    var client = retry(3, 0.1).enrich((Client) (request, options) ->
+        response(request, attempts.incrementAndGet() == 1 ? 503 : 200, Map.of()));
+
+    var response = client.execute(request(), new Options());
+
+    assertThat(response.status()).isEqualTo(200);
+    assertThat(attempts).hasValue(2);
+    assertThat(meterRegistry.get("form.validation.client.retry").tag("reason", "status")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testNotRetryValidationError() throws IOException {
+    var client = retry(3, 0.1).enrich((Client) (request, options) -> {
+      attempts.incrementAndGet();
+      return response(request, 422, Map.of());
+    });
+
+    var response = client.execute(request(), new Options());
+
+    assertThat(response.status()).isEqualTo(422);
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void testRethrowIoErrorWhenAttemptsAreOver() {
+    var client = retry(3, 0.1).enrich((Client) (request, options) -> {
+      attempts.incrementAndGet();
+      throw new ConnectException("Connection refused");
+    });
+
+    assertThatThrownBy(() -> client.execute(request(), new Options()))
+        .isInstanceOf(ConnectException.class);
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  public void testNotWaitLongerThanMaxRetryAfter() throws IOException {
+    var client = retry(3, 0.1).enrich((Client) (request, options) -> {
+      attempts.incrementAndGet();
+      return response(request, 503, Map.of("Retry-After", List.of("120")));
+    });
+
+    var response = client.execute(request(), new Options());
+
+    assertThat(response.status()).isEqualTo(503);
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void testStopRetryingWhenBudgetIsSpent() throws IOException {
+    var client = retry(2, 0).enrich((Client) (request, options) -> {
+      attempts.incrementAndGet();
+      return response(request, 500, Map.of());
+    });
+
+    for (var i = 0; i < 20; i++) {
+      client.execute(request(), new Options());
+    }
+
+    assertThat(attempts).hasValue(30);
+    assertThat(meterRegistry.get("form.validation.client.retry.throttled").counter().count())
+        .isEqualTo(10);
+  }
+
+  private RetryCapability retry(int maxAttempts, double budget) {
+    return new RetryCapability("test", maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+        2, budget, Duration.ofSeconds(1), meterRegistry);
+  }
+
+  private static Response response(Request request, int status,
+      Map<String, Collection<String>> headers) {
+    return Response.builder().status(status).request(request).headers(headers).build();
+  }
+
+  private static Request request() {
+    return Request.create(HttpMethod.POST, "http://localhost/api/form-submissions/form/validate",
+        Map.of(), "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+  }
+}
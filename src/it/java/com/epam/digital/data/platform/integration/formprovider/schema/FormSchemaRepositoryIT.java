@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormSchemaClient;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.FormSchemaCacheProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.ComponentsDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+public class FormSchemaRepositoryIT {
+
+  private final FormSchemaClient formSchemaClient = mock(FormSchemaClient.class);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private FormSchemaRepository repository;
+
+  @AfterEach
+  public void tearDown() {
+    repository.shutdown();
+  }
+
+  @Test
+  public void testFetchFormDefinitionOnce() throws Exception {
+    repository = new FormSchemaRepository(formSchemaClient, objectMapper, new FormSchemaCacheProperties());
+    var form = form("name");
+    when(formSchemaClient.getForm("formId", null)).thenReturn(response(200, form, null));
+
+    assertThat(repository.getForm("formId")).isEqualTo(form);
+    assertThat(repository.getForm("formId")).isEqualTo(form);
+
+    verify(formSchemaClient, times(1)).getForm("formId", null);
+  }
+
+  @Test
+  public void testKeepDefinitionNotModifiedOnRevalidation() throws Exception {
+    var properties = new FormSchemaCacheProperties();
+    properties.setRefreshAfterWrite(Duration.ofMillis(1));
+    repository = new FormSchemaRepository(formSchemaClient, objectMapper, properties);
+    var form = form("name");
+    when(formSchemaClient.getForm("formId", null)).thenReturn(response(200, form, "\"v1\""));
+    when(formSchemaClient.getForm("formId", "\"v1\"")).thenAnswer(
+        invocation -> response(304, null, null));
+
+    repository.getForm("formId");
+    var loaded = repository.findLoaded("formId").orElseThrow();
+    Thread.sleep(10);
+
+    assertThat(repository.getForm("formId")).isEqualTo(form);
+    verify(formSchemaClient, timeout(1000).atLeastOnce()).getForm("formId", "\"v1\"");
+    verify(formSchemaClient, times(1)).getForm("formId", null);
+    Thread.sleep(50);
+    assertThat(repository.findLoaded("formId")).containsSame(loaded);
+  }
+
+  @Test
+  public void testLoadMissingDefinitionInBackground() throws Exception {
+    repository = new FormSchemaRepository(formSchemaClient, objectMapper, new FormSchemaCacheProperties());
+    var form = form("name");
+    when(formSchemaClient.getForm("formId", null)).thenReturn(response(200, form, null));
+
+    assertThat(repository.findOrLoad("formId")).isEmpty();
+
+    verify(formSchemaClient, timeout(1000)).getForm("formId", null);
+    for (var i = 0; i < 50 && repository.findLoaded("formId").isEmpty(); i++) {
+      Thread.sleep(20);
+    }
+    assertThat(repository.findOrLoad("formId").orElseThrow().getForm()).isEqualTo(form);
+    verify(formSchemaClient, times(1)).getForm("formId", null);
+  }
+
+  @Test
+  public void testFetchAgainAfterEviction() {
+    repository = new FormSchemaRepository(formSchemaClient, objectMapper, new FormSchemaCacheProperties());
+    when(formSchemaClient.getForm("formId", null)).thenAnswer(
+        invocation -> response(200, form("name"), null));
+
+    repository.getForm("formId");
+    repository.evict("formId");
+
+    assertThat(repository.findLoaded("formId")).isEmpty();
+    repository.getForm("formId");
+    verify(formSchemaClient, times(2)).getForm(eq("formId"), isNull());
+  }
+
+  private FormDto form(String fieldKey) {
+    return new FormDto(List.of(ComponentsDto.builder().key(fieldKey).type("textfield").build()));
+  }
+
+  private Response response(int status, FormDto form, String eTag)
+      throws JsonProcessingException {
+    var request = Request.create(HttpMethod.GET, "/forms/formId", Map.of(), null,
+        StandardCharsets.UTF_8, null);
+    return Response.builder()
+        .status(status)
+        .request(request)
+        .headers(eTag == null ? Map.of() : Map.of(HttpHeaders.ETAG, List.of(eTag)))
+        .body(form == null ? null : objectMapper.writeValueAsBytes(form))
+        .build();
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+public class BoundedAsyncClientIT {
+
+  private static final String HEADER = "X-Request-Timeout";
+
+  private final List<CompletableFuture<Response>> sent = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void testDrainSynchronouslyFailedRequestsInLoop() {
+    var pending = new CompletableFuture<Response>();
+    AsyncClient<Object> delegate = (request, options, context) -> {
+      var response = sent.isEmpty() ? pending
+          : CompletableFuture.<Response>failedFuture(new ConnectException("refused"));
+      sent.add(response);
+      return response;
+    };
+    var client = new BoundedAsyncClient<>(delegate, 1, 20_000);
+    var results = new ArrayList<CompletableFuture<Response>>();
+    for (var i = 0; i <= 20_000; i++) {
+      results.add(client.execute(request(), new Options(), Optional.empty()));
+    }
+
+    pending.complete(response());
+
+    assertThat(sent).hasSize(20_001);
+    assertThat(results.get(0)).isCompleted();
+    assertThat(results.subList(1, results.size()))
+        .allMatch(CompletableFuture::isCompletedExceptionally);
+  }
+
+  @Test
+  public void testDropCancelledQueuedRequest() {
+    AsyncClient<Object> delegate = (request, options, context) -> {
+      var response = new CompletableFuture<Response>();
+      sent.add(response);
+      return response;
+    };
+    var client = new BoundedAsyncClient<>(delegate, 1, 1);
+    var first = client.execute(request(), new Options(), Optional.empty());
+    var second = client.execute(request(), new Options(), Optional.empty());
+
+    second.cancel(true);
+    var third = client.execute(request(), new Options(), Optional.empty());
+    sent.get(0).complete(response());
+
+    assertThat(first).isCompleted();
+    assertThat(sent).hasSize(2);
+    assertThat(third).isNotDone();
+  }
+
+  @Test
+  public void testCancelInFlightRequest() {
+    AsyncClient<Object> delegate = (request, options, context) -> {
+      var response = new CompletableFuture<Response>();
+      sent.add(response);
+      return response;
+    };
+    var client = new BoundedAsyncClient<>(delegate, 1, 1);
+    var result = client.execute(request(), new Options(), Optional.empty());
+
+    result.cancel(true);
+
+    assertThat(sent.get(0)).isCancelled();
+    client.execute(request(), new Options(), Optional.empty());
+    assertThat(sent).hasSize(2);
+  }
+
+  @Test
+  public void testApplyDeadlineWhenQueuedRequestIsSent() throws Exception {
+    var sentRequests = new CopyOnWriteArrayList<Request>();
+    AsyncClient<Object> delegate = (request, options, context) -> {
+      var response = new CompletableFuture<Response>();
+      sentRequests.add(request);
+      sent.add(response);
+      return response;
+    };
+    var client = new BoundedAsyncClient<>(new DeadlineCapability(HEADER).enrich(delegate), 1, 2);
+    client.execute(request(), new Options(), Optional.empty());
+    var expiring = Deadline.call(Duration.ofMillis(50),
+        () -> client.execute(request(), new Options(), Optional.empty()));
+    var waiting = Deadline.call(Duration.ofSeconds(10),
+        () -> client.execute(request(), new Options(), Optional.empty()));
+    Thread.sleep(300);
+
+    sent.get(0).complete(response());
+
+    assertThatThrownBy(expiring::get).hasCauseInstanceOf(DeadlineExceededException.class);
+    assertThat(waiting).isNotDone();
+    assertThat(sentRequests).hasSize(2);
+    var budget = Long.parseLong(sentRequests.get(1).headers().get(HEADER).iterator().next());
+    assertThat(budget).isPositive().isLessThanOrEqualTo(9700);
+  }
+
+  private static Request request() {
+    return Request.create(HttpMethod.POST, "http://localhost/validate", Map.of(),
+        "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+  }
+
+  private static Response response() {
+    return Response.builder().status(200).request(request()).headers(Map.of()).build();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class DeadlineCapabilityIT {
+
+  private static final String HEADER = "X-Request-Timeout";
+
+  private final AtomicReference<Request> sentRequest = new AtomicReference<>();
+  private final AtomicReference<Options> sentOptions = new AtomicReference<>();
+
+  @Test
+  public void testNotChangeRequestWithoutDeadline() throws Exception {
+    var client = new DeadlineCapability(HEADER).enrich(echo());
+    var options = new Options();
+
+    client.execute(request(), options);
+
+    assertThat(sentRequest.get().headers()).doesNotContainKey(HEADER);
+    assertThat(sentOptions.get()).isSameAs(options);
+  }
+
+  @Test
+  public void testCutTimeoutsToRemainingBudget() {
+    var client = new DeadlineCapability(HEADER).enrich(echo());
+
+    Deadline.run(Duration.ofSeconds(2), () -> execute(client));
+
+    var budget = Long.parseLong(sentRequest.get().headers().get(HEADER).iterator().next());
+    assertThat(budget).isPositive().isLessThanOrEqualTo(2000);
+    assertThat(sentOptions.get().readTimeoutMillis()).isLessThanOrEqualTo(2000);
+    assertThat(sentOptions.get().connectTimeoutMillis()).isLessThanOrEqualTo(2000);
+  }
+
+  @Test
+  public void testNotExtendOuterDeadline() {
+    var client = new DeadlineCapability(HEADER).enrich(echo());
+
+    Deadline.run(Duration.ofMillis(500),
+        () -> Deadline.run(Duration.ofMinutes(1), () -> execute(client)));
+
+    assertThat(sentOptions.get().readTimeoutMillis()).isLessThanOrEqualTo(500);
+  }
+
+  @Test
+  public void testRejectCallWithSpentBudget() {
+    var client = new DeadlineCapability(HEADER).enrich(echo());
+
+    assertThatThrownBy(() -> Deadline.run(Duration.ZERO, () -> execute(client)))
+        .isInstanceOf(DeadlineExceededException.class);
+    assertThat(sentRequest.get()).isNull();
+  }
+
+  @Test
+  public void testFailAsyncCallWithSpentBudget() {
+    AsyncClient<Object> asyncClient = (request, options, context) -> {
+      sentRequest.set(request);
+      return CompletableFuture.completedFuture(null);
+    };
+    var client = new DeadlineCapability(HEADER).enrich(asyncClient);
+
+    var result = Deadline.call(Duration.ZERO,
+        () -> client.execute(request(), new Options(), Optional.empty()));
+
+    assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(DeadlineExceededException.class);
+    assertThat(sentRequest.get()).isNull();
+  }
+
+  @Test
+  public void testEnrichBothRolesOfCombinedTransport() throws Exception {
+    var transport = new CompositeClient<Object>(echo(), (request, options, context) -> {
+      sentRequest.set(request);
+      return CompletableFuture.completedFuture(null);
+    });
+
+    Object enriched = Capability.enrich((Object) transport,
+        List.of(new DeadlineCapability(HEADER)));
+    Deadline.run(Duration.ofSeconds(2), () -> execute((Client) enriched));
+    var syncBudget = sentRequest.get().headers().get(HEADER);
+    Deadline.call(Duration.ofSeconds(2), () -> ((AsyncClient<?>) enriched)
+        .execute(request(), new Options(), Optional.empty())).get();
+
+    assertThat(syncBudget).hasSize(1);
+    assertThat(sentRequest.get().headers()).containsKey(HEADER);
+  }
+
+  private void execute(Client client) {
+    try {
+      client.execute(request(), new Options());
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private Client echo() {
+    return (request, options) -> {
+      sentRequest.set(request);
+      sentOptions.set(options);
+      return Response.builder().status(200).request(request).headers(Map.of()).build();
+    };
+  }
+
+  private static Request request() {
+    return Request.create(HttpMethod.POST, "http://localhost/api/form-submissions/form/validate",
+        Map.of(), "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+  }
+}
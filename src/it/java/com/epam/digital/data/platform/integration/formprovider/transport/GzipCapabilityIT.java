@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class GzipCapabilityIT {
+
+  private static final String BODY = "{\"data\":\"" + "value ".repeat(500) + "\"}";
+
+  private final AtomicReference<Request> sent = new AtomicReference<>();
+
+  @Test
+  public void testCompressLargeRequestBody() throws IOException {
+    var meterRegistry = new SimpleMeterRegistry();
+    var client = new GzipCapability(1024, true, meterRegistry)
+        .enrich(echo(Map.of(), false));
+
+    var response = client.execute(request(BODY), new Options());
+
+    var request = sent.get();
+    assertThat(request.headers().get("Content-Encoding")).containsExactly("gzip");
+    assertThat(request.headers().get("Accept-Encoding")).containsExactly("gzip");
+    assertThat(request.body().length).isLessThan(BODY.length());
+    assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(request.body()))
+        .readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(response.body().asInputStream().readAllBytes()).isEqualTo(request.body());
+    assertThat(meterRegistry.summary("form.validation.client.compression.ratio").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void testNotCompressSmallRequestBody() throws IOException {
+    var client = new GzipCapability(1024, true, null).enrich(echo(Map.of(), false));
+
+    client.execute(request("{}"), new Options());
+
+    assertThat(sent.get().headers()).doesNotContainKey("Content-Encoding");
+    assertThat(new String(sent.get().body(), StandardCharsets.UTF_8)).isEqualTo("{}");
+  }
+
+  @Test
+  public void testSendOriginalBodyIfCompressionDoesNotShrinkIt() throws IOException {
+    var body = new byte[2048];
+    new Random(42).nextBytes(body);
+    var original = Request.create(HttpMethod.POST,
+        "http://localhost/api/form-submissions/form/validate", Map.of(), body,
+        StandardCharsets.UTF_8, null);
+    var meterRegistry = new SimpleMeterRegistry();
+    var client = new GzipCapability(1024, false, meterRegistry).enrich(echo(Map.of(), false));
+
+    client.execute(original, new Options());
+
+    assertThat(sent.get()).isSameAs(original);
+    assertThat(meterRegistry.summary("form.validation.client.compression.ratio").max())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void testDecompressGzippedResponse() throws IOException {
+    var client = new GzipCapability(Long.MAX_VALUE, true, null)
+        .enrich(echo(Map.of("Content-Encoding", List.of("gzip")), true));
+
+    var response = client.execute(request(BODY), new Options());
+
+    assertThat(response.headers()).doesNotContainKey("Content-Encoding");
+    assertThat(new String(response.body().asInputStream().readAllBytes(),
+        StandardCharsets.UTF_8)).isEqualTo(BODY);
+  }
+
+  @Test
+  public void testSkipResponseAlreadyDecompressedByTransport() throws IOException {
+    var client = new GzipCapability(Long.MAX_VALUE, true, null)
+        .enrich(echo(Map.of("Content-Encoding", List.of("gzip")), false));
+
+    var response = client.execute(request(BODY), new Options());
+
+    assertThat(new String(response.body().asInputStream().readAllBytes(),
+        StandardCharsets.UTF_8)).isEqualTo(BODY);
+  }
+
+  @Test
+  public void testCompressBodyOnceOverDefaultTransport() throws IOException {
+    var received = new AtomicReference<byte[]>();
+    var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      received.set(exchange.getRequestBody().readAllBytes());
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+    });
+    server.start();
+    try {
+      var client = new GzipCapability(1024, false, null)
+          .enrich(new UrlConnectionClient(null, null));
+      var url = "http://localhost:" + server.getAddress().getPort() + "/validate";
+
+      var response = client.execute(Request.create(HttpMethod.POST, url, Map.of(),
+          BODY.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null), new Options());
+
+      assertThat(response.status()).isEqualTo(200);
+      assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(received.get()))
+          .readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private Client echo(Map<String, Collection<String>> headers, boolean gzip) {
+    return (request, options) -> {
+      sent.set(request);
+      return Response.builder()
+          .status(200)
+          .request(request)
+          .headers(headers)
+          .body(gzip ? gzip(request.body()) : request.body())
+          .build();
+    };
+  }
+
+  private static Request request(String body) {
+    return Request.create(HttpMethod.POST, "http://localhost/api/form-submissions/form/validate",
+        Map.of(), body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    var out = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import feign.RetryableException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@EnableAutoConfiguration
+@EnableFeignClients(clients = FormValidationClient.class)
+@SpringBootTest(classes = HttpClientTypeIT.class, properties = {
+    "form-submission-validation.timeouts.validateFormData.read-timeout=300ms",
+    "form-submission-validation.async.enabled=false"})
+public class HttpClientTypeIT {
+
+  private static WireMockServer wireMockServer;
+
+  @BeforeAll
+  public static void startServer() {
+    wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    wireMockServer.start();
+    wireMockServer.stubFor(post(urlPathEqualTo("/api/form-submissions/formId/validate"))
+        .willReturn(aResponse()
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"data\":{}}")
+            .withFixedDelay(1500)));
+    wireMockServer.stubFor(post(urlPathEqualTo("/api/form-submissions/formId/fields/check"))
+        .willReturn(aResponse().withStatus(200).withFixedDelay(500)));
+    wireMockServer.stubFor(
+        post(urlPathEqualTo("/api/form-submissions/formId/fields/file/validate"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+  }
+
+  @AfterAll
+  public static void stopServer() {
+    wireMockServer.stop();
+  }
+
+  @DynamicPropertySource
+  static void serverUrl(DynamicPropertyRegistry registry) {
+    registry.add("form-submission-validation.url", wireMockServer::baseUrl);
+  }
+
+  @Nested
+  public class DefaultTransport extends Transport {
+
+    @Test
+    public void testApplyMethodTimeout() {
+      assertMethodTimeoutApplied("Java/");
+    }
+
+    @Test
+    public void testAbortCancelledRequest() throws Exception {
+      assertCancelledRequestAborted();
+    }
+  }
+
+  @Nested
+  @TestPropertySource(properties = "form-submission-validation.http-client.type=pooled")
+  public class PooledTransport extends Transport {
+
+    @Test
+    public void testApplyMethodTimeout() {
+      assertMethodTimeoutApplied("Apache-HttpClient/");
+    }
+
+    @Test
+    public void testAbortCancelledRequest() throws Exception {
+      assertCancelledRequestAborted();
+    }
+  }
+
+  @Nested
+  @TestPropertySource(properties = "form-submission-validation.http-client.type=http2")
+  public class Http2Transport extends Transport {
+
+    @Test
+    public void testApplyMethodTimeout() {
+      assertMethodTimeoutApplied("Java-http-client/");
+    }
+
+    @Test
+    public void testAbortCancelledRequest() throws Exception {
+      assertCancelledRequestAborted();
+    }
+  }
+
+  @Nested
+  @TestPropertySource(properties = "form-submission-validation.http-client.type=streaming")
+  public class StreamingTransport extends Transport {
+
+    @Test
+    public void testApplyMethodTimeout() {
+      assertMethodTimeoutApplied("Java/");
+    }
+
+    @Test
+    public void testAbortCancelledRequest() throws Exception {
+      assertCancelledRequestAborted();
+    }
+  }
+
+  abstract class Transport {
+
+    @Autowired
+    private FormValidationClient formValidationClient;
+
+    void assertMethodTimeoutApplied(String userAgent) {
+      wireMockServer.resetRequests();
+      var formData = FormDataValidationDto.builder().data(new LinkedHashMap<>()).build();
+      var started = System.nanoTime();
+
+      assertThrows(RetryableException.class,
+          () -> formValidationClient.validateFormData("formId", formData));
+
+      assertThat(System.nanoTime() - started).isLessThan(1_200_000_000L);
+      assertDoesNotThrow(() -> formValidationClient.checkFieldNames("formId",
+          FormFieldListValidationDto.builder().fields(List.of("name")).build()));
+      var requests = wireMockServer.findAll(
+          postRequestedFor(
+              urlPathMatching("/api/form-submissions/formId/(validate|fields/check)")));
+      assertThat(requests).hasSize(2).allSatisfy(
+          request -> assertThat(request.getHeader("User-Agent")).startsWith(userAgent));
+    }
+
+    void assertCancelledRequestAborted() throws Exception {
+      var cancellation = new Cancellation();
+      var executor = Executors.newSingleThreadExecutor();
+      try {
+        var call = executor.submit(() -> cancellation.call(() -> {
+          formValidationClient.validateFileField("formId", "file", new FileDataValidationDto());
+          return null;
+        }));
+        Thread.sleep(300);
+        var started = System.nanoTime();
+
+        cancellation.cancel();
+
+        var ex = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause()).isInstanceOf(RetryableException.class);
+        assertThat(System.nanoTime() - started).isLessThan(1_000_000_000L);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+}
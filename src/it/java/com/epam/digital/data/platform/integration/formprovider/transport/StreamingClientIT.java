@@ -0,0 +1,264 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.codec.PreparedJacksonCodec;
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormat;
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormatCapability;
+import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.resilience.RetryCapability;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Capability;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+public class StreamingClientIT {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<String> transferEncodings = new CopyOnWriteArrayList<>();
+  private final List<Integer> bodySizes = new CopyOnWriteArrayList<>();
+  private final List<String> contentTypes = new CopyOnWriteArrayList<>();
+  private final AtomicInteger unavailable = new AtomicInteger();
+  private final AtomicInteger unsupportedBinary = new AtomicInteger();
+  private volatile byte[] validationError;
+  private HttpServer server;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      transferEncodings.add(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+      var contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+      contentTypes.add(contentType);
+      var gzipped = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+      var body = (gzipped ? new GZIPInputStream(exchange.getRequestBody())
+          : exchange.getRequestBody()).readAllBytes();
+      bodySizes.add(body.length);
+      if (unavailable.getAndDecrement() > 0) {
+        exchange.sendResponseHeaders(503, -1);
+        exchange.close();
+        return;
+      }
+      if (!"application/json".equals(contentType) && unsupportedBinary.getAndDecrement() > 0) {
+        exchange.sendResponseHeaders(415, -1);
+        exchange.close();
+        return;
+      }
+      var status = validationError == null ? 200 : 422;
+      var responseBody = validationError == null ? body : validationError;
+      exchange.getResponseHeaders().add("Content-Type", contentType);
+      if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+        exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        responseBody = gzip(responseBody);
+      }
+      exchange.sendResponseHeaders(status, responseBody.length);
+      exchange.getResponseBody().write(responseBody);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testStreamFormDataBody() {
+    var client = client(new StreamingClient(null, null, objectMapper, false));
+    var formData = formData();
+
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isEqualTo(formData);
+    assertThat(transferEncodings).containsExactly("chunked");
+  }
+
+  @Test
+  public void testStreamGzippedFormDataBody() {
+    var client = client(new StreamingClient(null, null, objectMapper, true));
+    var formData = formData();
+
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isEqualTo(formData);
+    assertThat(transferEncodings).containsExactly("chunked");
+  }
+
+  @Test
+  public void testSendOtherBodiesAsIs() {
+    var client = client(new StreamingClient(null, null, objectMapper, false));
+
+    client.checkFieldNames("formId",
+        FormFieldListValidationDto.builder().fields(List.of("name")).build());
+
+    assertThat(transferEncodings).containsOnlyNulls().hasSize(1);
+  }
+
+  @Test
+  public void testWriteBodyOnEveryAttempt() {
+    unavailable.set(1);
+    var streamingClient = new StreamingClient(null, null, objectMapper, false);
+    var client = Feign.builder()
+        .client(streamingClient)
+        .contract(new SpringMvcContract())
+        .encoder(codec())
+        .decoder(codec())
+        .addCapability(streamingClient)
+        .addCapability(new RetryCapability("test", 2, Duration.ofMillis(1), Duration.ofMillis(1),
+            1, 1, Duration.ofSeconds(1), null))
+        .target(FormValidationClient.class, url());
+    var formData = formData();
+
+    var result = client.validateFormData("formId", formData);
+
+    assertThat(result).isEqualTo(formData);
+    assertThat(bodySizes).hasSize(2).allMatch(size -> size > 0)
+        .allMatch(size -> size.equals(bodySizes.get(0)));
+  }
+
+  @Test
+  public void testStreamWithCompressionAndWireFormatTogether() {
+    unsupportedBinary.set(1);
+    var streamingClient = new StreamingClient(null, null, objectMapper, true);
+    var client = Feign.builder()
+        .client(streamingClient)
+        .contract(new SpringMvcContract())
+        .encoder(codec())
+        .decoder(codec())
+        .addCapability(streamingClient)
+        .addCapability(new GzipCapability(1024, true, null))
+        .addCapability(new WireFormatCapability(WireFormat.SMILE, objectMapper,
+            Duration.ofMinutes(10)))
+        .target(FormValidationClient.class, url());
+    var formData = formData();
+
+    assertThat(client.validateFormData("formId", formData)).isEqualTo(formData);
+    assertThat(client.validateFormData("formId", formData)).isEqualTo(formData);
+
+    assertThat(contentTypes).containsExactly(WireFormat.SMILE.getMediaType(),
+        "application/json", "application/json");
+    assertThat(transferEncodings).containsExactly(null, null, "chunked");
+  }
+
+  @Test
+  public void testDecodeCompressedErrorResponse() throws IOException {
+    validationError = objectMapper.writeValueAsBytes(ValidationErrorDto.builder()
+        .code("VALIDATION_ERROR").message("Validation error").build());
+    var streamingClient = new StreamingClient(null, null, objectMapper, true);
+    var client = Feign.builder()
+        .client(streamingClient)
+        .contract(new SpringMvcContract())
+        .encoder(codec())
+        .decoder(codec())
+        .errorDecoder(new FormValidationErrorDecoder(objectMapper, 1024 * 1024, false, false))
+        .addCapability(streamingClient)
+        .addCapability(new GzipCapability(1024, true, null))
+        .target(FormValidationClient.class, url());
+
+    var ex = assertThrows(SubmissionValidationException.class,
+        () -> client.validateFormData("formId", formData()));
+
+    assertThat(ex.getErrors().getMessage()).isEqualTo("Validation error");
+    assertThat(transferEncodings).containsExactly("chunked");
+  }
+
+  @Test
+  public void testFailIfStreamedBodyIsReplacedByCopy() {
+    var streamingClient = new StreamingClient(null, null, objectMapper, false);
+    var client = Feign.builder()
+        .client(streamingClient)
+        .contract(new SpringMvcContract())
+        .encoder(codec())
+        .decoder(codec())
+        .addCapability(streamingClient)
+        .addCapability(new CopyingBodyCapability())
+        .target(FormValidationClient.class, url());
+
+    assertThrows(IllegalStateException.class,
+        () -> client.validateFormData("formId", formData()));
+    assertThat(transferEncodings).isEmpty();
+  }
+
+  private FormValidationClient client(StreamingClient streamingClient) {
+    return Feign.builder()
+        .client(streamingClient)
+        .contract(new SpringMvcContract())
+        .encoder(codec())
+        .decoder(codec())
+        .addCapability(streamingClient)
+        .target(FormValidationClient.class, url());
+  }
+
+  private PreparedJacksonCodec codec() {
+    return new PreparedJacksonCodec(objectMapper, "application/json", null);
+  }
+
+  private String url() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    var out = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    }
+    return out.toByteArray();
+  }
+
+  private static FormDataValidationDto formData() {
+    var data = new LinkedHashMap<String, Object>();
+    for (var i = 0; i < 1000; i++) {
+      data.put("field" + i, "value " + i);
+    }
+    return FormDataValidationDto.builder().data(data).build();
+  }
+
+  public static class CopyingBodyCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+      return (request, options) -> client.execute(Request.create(request.httpMethod(),
+          request.url(), request.headers(), request.body().clone(), request.charset(),
+          request.requestTemplate()), options);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures full {@link FormValidationClient#validateFormData(String, FormDataValidationDto)}
+ * round trip against {@link StubServer}, for valid data and for data rejected with 422 status.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientRoundTripBenchmark {
+
+  @Param({"10", "1000"})
+  private int fields;
+
+  @Param({"default", "pooled"})
+  private String transport;
+
+  private StubServer server;
+  private CloseableHttpClient httpClient;
+  private FormValidationClient client;
+  private FormDataValidationDto formData;
+
+  @Setup
+  public void setUp() throws IOException {
+    server = new StubServer(new ObjectMapper().writeValueAsBytes(Payloads.validationError(10)));
+    Client transportClient;
+    if ("pooled".equals(transport)) {
+      httpClient = HttpClients.createDefault();
+      transportClient = new ApacheHttp5Client(httpClient);
+    } else {
+      transportClient = new Client.Default(null, null);
+    }
+    client = Clients.formValidationClient(transportClient, server.url());
+    formData = Payloads.formData(fields, 1);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (httpClient != null) {
+      httpClient.close();
+    }
+    server.close();
+  }
+
+  @Benchmark
+  public FormDataValidationDto valid() {
+    return client.validateFormData("form", formData);
+  }
+
+  @Benchmark
+  public Object invalid() {
+    try {
+      return client.validateFormData("invalid", formData);
+    } catch (SubmissionValidationException ex) {
+      return ex.getErrors();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.codec.PreparedJacksonCodec;
+import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Feign;
+import feign.codec.Encoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * The class represents a factory of feign components configured the same way as in the
+ * application context.
+ */
+final class Clients {
+
+  private Clients() {
+  }
+
+  static Encoder springEncoder(ObjectMapper objectMapper) {
+    return new SpringEncoder(messageConverters(objectMapper));
+  }
+
+  static PreparedJacksonCodec preparedCodec(ObjectMapper objectMapper) {
+    return new PreparedJacksonCodec(objectMapper, MediaType.APPLICATION_JSON_VALUE,
+        new ResponseEntityDecoder(new SpringDecoder(messageConverters(objectMapper))));
+  }
+
+  static FormValidationClient formValidationClient(Client client, String url) {
+    var objectMapper = new ObjectMapper();
+    var codec = preparedCodec(objectMapper);
+    return Feign.builder()
+        .client(client)
+        .contract(new SpringMvcContract())
+        .encoder(codec)
+        .decoder(codec)
+        .errorDecoder(new FormValidationErrorDecoder(objectMapper))
+        .target(FormValidationClient.class, url);
+  }
+
+  private static ObjectFactory<HttpMessageConverters> messageConverters(
+      ObjectMapper objectMapper) {
+    var messageConverters = new HttpMessageConverters(
+        new MappingJackson2HttpMessageConverter(objectMapper));
+    return () -> messageConverters;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FormValidationErrorDecoder#decode(String, Response)} on small and large
+ * validation error bodies, in eager and lazy details mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorDecoderBenchmark {
+
+  @Param({"2", "500"})
+  private int errors;
+
+  @Param({"false", "true"})
+  private boolean lazyDetails;
+
+  private FormValidationErrorDecoder decoder;
+  private Request request;
+  private Map<String, Collection<String>> headers;
+  private byte[] body;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    var objectMapper = new ObjectMapper();
+    decoder = new FormValidationErrorDecoder(objectMapper,
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE, lazyDetails);
+    request = Request.create(HttpMethod.POST,
+        "http://localhost/api/form-submissions/form/validate", Map.of(), null,
+        StandardCharsets.UTF_8, null);
+    headers = Map.of("Content-Type", List.of("application/json"));
+    body = objectMapper.writeValueAsBytes(Payloads.validationError(errors));
+  }
+
+  @Benchmark
+  public Object decode() {
+    var response = Response.builder()
+        .status(422)
+        .request(request)
+        .headers(headers)
+        .body(body)
+        .build();
+    return ((SubmissionValidationException) decoder.decode("validateFormData", response))
+        .getErrors().getTraceId();
+  }
+}
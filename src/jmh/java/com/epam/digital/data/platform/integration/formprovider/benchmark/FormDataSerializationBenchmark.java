@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.codec.AccessorModule;
+import com.epam.digital.data.platform.integration.formprovider.codec.PreparedJacksonCodec;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serialization of {@link FormDataValidationDto} request body with plain
+ * {@link ObjectMapper}, with message converters based feign {@link Encoder} and with
+ * {@link PreparedJacksonCodec}, optionally with generated accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormDataSerializationBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int fields;
+
+  @Param({"0", "2"})
+  private int depth;
+
+  @Param({"NONE", "BLACKBIRD"})
+  private AccessorModule accessors;
+
+  private ObjectMapper objectMapper;
+  private Encoder springEncoder;
+  private Encoder preparedCodec;
+  private FormDataValidationDto formData;
+
+  @Setup
+  public void setUp() {
+    objectMapper = accessors.apply(new ObjectMapper());
+    springEncoder = Clients.springEncoder(objectMapper);
+    preparedCodec = Clients.preparedCodec(objectMapper);
+    formData = Payloads.formData(fields, depth);
+  }
+
+  @Benchmark
+  public byte[] objectMapper() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(formData);
+  }
+
+  @Benchmark
+  public byte[] springEncoder() {
+    var template = new RequestTemplate();
+    springEncoder.encode(formData, FormDataValidationDto.class, template);
+    return template.body();
+  }
+
+  @Benchmark
+  public byte[] preparedCodec() {
+    var template = new RequestTemplate();
+    preparedCodec.encode(formData, FormDataValidationDto.class, template);
+    return template.body();
+  }
+}
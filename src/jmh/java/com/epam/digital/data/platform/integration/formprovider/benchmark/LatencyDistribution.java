@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class represents a distribution of latency injected by {@link LoadStubServer}. Values of
+ * the specification are in milliseconds:
+ * <ul>
+ *   <li>{@code none} - no latency</li>
+ *   <li>{@code fixed:<value>}</li>
+ *   <li>{@code uniform:<min>:<max>}</li>
+ *   <li>{@code exponential:<mean>}</li>
+ *   <li>{@code lognormal:<median>:<p99>}, a long tail typical for real services</li>
+ * </ul>
+ */
+@FunctionalInterface
+interface LatencyDistribution {
+
+  double P99_QUANTILE = 2.3263;
+
+  /**
+   * Returns next latency in nanoseconds.
+   */
+  long nextNanos(Random random);
+
+  static LatencyDistribution parse(String specification) {
+    var parts = specification.trim().split(":");
+    switch (parts[0]) {
+      case "none":
+        return random -> 0;
+      case "fixed":
+        var fixed = nanos(parts, 1);
+        return random -> fixed;
+      case "uniform":
+        var min = nanos(parts, 1);
+        var max = nanos(parts, 2);
+        return random -> min + (long) (random.nextDouble() * (max - min));
+      case "exponential":
+        var mean = nanos(parts, 1);
+        return random -> (long) (-mean * Math.log(1 - random.nextDouble()));
+      case "lognormal":
+        var median = nanos(parts, 1);
+        var sigma = Math.log((double) nanos(parts, 2) / median) / P99_QUANTILE;
+        return random -> (long) (median * Math.exp(sigma * random.nextGaussian()));
+      default:
+        throw new IllegalArgumentException("Unknown latency distribution " + specification);
+    }
+  }
+
+  private static long nanos(String[] parts, int index) {
+    if (parts.length <= index) {
+      throw new IllegalArgumentException(
+          "Missing parameter " + index + " of latency distribution " + String.join(":", parts));
+    }
+    return (long) (Double.parseDouble(parts[index]) * TimeUnit.MILLISECONDS.toNanos(1));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The class represents an in-process stub of form validation service for load tests. Every
+ * response is delayed by the given {@link LatencyDistribution}, {@code errorRate} of requests get
+ * 503 status and {@code invalidRate} of them get 422 status with the given validation error.
+ * <p>
+ * Form data validation echoes the data back in the format it was sent unless {@code Prefer: return=minimal} is sent, file
+ * field validation and field names check return an empty body, any other endpoint, e.g. batch
+ * or partial validation, is not found.
+ */
+final class LoadStubServer implements AutoCloseable {
+
+  private static final String JSON = "application/json";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final LatencyDistribution latency;
+  private final double errorRate;
+  private final double invalidRate;
+  private final byte[] validationError;
+  private final LongAdder requests = new LongAdder();
+
+  LoadStubServer(LatencyDistribution latency, double errorRate, double invalidRate,
+      byte[] validationError) throws IOException {
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    this.latency = latency;
+    this.errorRate = errorRate;
+    this.invalidRate = invalidRate;
+    this.validationError = validationError;
+    this.executor = Executors.newCachedThreadPool(runnable -> {
+      var thread = new Thread(runnable, "load-stub-server");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+        1024);
+    server.createContext("/api/form-submissions", this::handle);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  String url() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  long getRequests() {
+    return requests.sum();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requests.increment();
+      var gzipped = "gzip".equalsIgnoreCase(
+          exchange.getRequestHeaders().getFirst("Content-Encoding"));
+      var requestBody = (gzipped ? new GZIPInputStream(exchange.getRequestBody())
+          : exchange.getRequestBody()).readAllBytes();
+      var random = ThreadLocalRandom.current();
+      sleep(latency.nextNanos(random));
+      var path = exchange.getRequestURI().getPath();
+      var outcome = random.nextDouble();
+      if (outcome < errorRate) {
+        exchange.sendResponseHeaders(503, -1);
+      } else if (outcome < errorRate + invalidRate) {
+        send(exchange, 422, JSON, validationError);
+      } else if (path.endsWith("/fields/check") || path.contains("/fields/")
+          && path.endsWith("/validate")) {
+        exchange.sendResponseHeaders(200, -1);
+      } else if (path.endsWith("/validate")) {
+        var minimal = "return=minimal".equals(exchange.getRequestHeaders().getFirst("Prefer"));
+        var contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        send(exchange, 200, contentType == null ? JSON : contentType,
+            minimal ? new byte[0] : requestBody);
+      } else {
+        exchange.sendResponseHeaders(404, -1);
+      }
+    }
+  }
+
+  private void send(HttpExchange exchange, int status, String contentType, byte[] body)
+      throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+    exchange.getResponseBody().write(body);
+  }
+
+  private static void sleep(long nanos) {
+    if (nanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
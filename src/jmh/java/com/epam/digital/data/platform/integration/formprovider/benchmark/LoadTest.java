@@ -0,0 +1,265 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Data;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Drives {@link FormValidationClient} from the application context at a constant request rate
+ * against {@link LoadStubServer} and reports throughput, latency percentiles, outcomes, heap
+ * allocated by the calling threads and GC activity.
+ * <p>
+ * Latency is measured from the moment a call was scheduled, not from the moment a thread picked
+ * it up, so the queueing caused by a slow client is part of the result. The run is offline, load
+ * parameters are {@code --load.*} arguments of {@link LoadProperties}, any other argument, e.g.
+ * {@code --form-submission-validation.http-client.type=pooled}, configures the client.
+ */
+public class LoadTest {
+
+  private final LoadProperties properties;
+  private final FormValidationClient client;
+  private final List<FormDataValidationDto> forms;
+  private final com.sun.management.ThreadMXBean threadMxBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private final LongAdder allocatedBytes = new LongAdder();
+  private final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+  private final Recorder latencies = new Recorder(TimeUnit.MINUTES.toNanos(1), 3);
+  private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+  private volatile boolean recording;
+
+  LoadTest(LoadProperties properties, FormValidationClient client) {
+    this.properties = properties;
+    this.client = client;
+    for (var outcome : Outcome.values()) {
+      outcomes.put(outcome, new LongAdder());
+    }
+    var data = Payloads.formData(properties.getFields(), 1).getData();
+    this.forms = IntStream.range(0, properties.getDistinctForms())
+        .mapToObj(i -> FormDataValidationDto.builder()
+            .data(data)
+            .processInstanceId("load-" + i)
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  public static void main(String[] args) throws Exception {
+    var environment = new StandardEnvironment();
+    environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+    var properties = new Binder(ConfigurationPropertySources.get(environment))
+        .bindOrCreate("load", LoadProperties.class);
+    try (var server = new LoadStubServer(LatencyDistribution.parse(properties.getLatency()),
+        properties.getErrorRate(), properties.getInvalidRate(),
+        new ObjectMapper().writeValueAsBytes(Payloads.validationError(10)))) {
+      try (var context = new SpringApplicationBuilder(Application.class)
+          .web(WebApplicationType.NONE)
+          .bannerMode(Banner.Mode.OFF)
+          .logStartupInfo(false)
+          .run(withUrl(args, server.url()))) {
+        new LoadTest(properties, context.getBean(FormValidationClient.class)).run();
+      }
+      System.out.printf("Stub server requests: %d%n", server.getRequests());
+    }
+  }
+
+  void run() throws InterruptedException {
+    var threads = properties.getThreads();
+    var executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(), new CustomizableThreadFactory("load-test-"));
+    executor.prestartAllCoreThreads();
+    var call = callOf(properties.getMethod());
+    var interval = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+    var start = System.nanoTime();
+    var measureFrom = start + properties.getWarmup().toNanos();
+    var end = measureFrom + properties.getDuration().toNanos();
+    long[] gcBefore = null;
+    for (var i = 0; ; i++) {
+      var scheduled = start + i * interval;
+      if (scheduled - end >= 0) {
+        break;
+      }
+      if (!recording && scheduled - measureFrom >= 0) {
+        gcBefore = gc();
+        latencies.reset();
+        recording = true;
+      }
+      var delay = scheduled - System.nanoTime();
+      if (delay > 0) {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      }
+      var form = i % forms.size();
+      var record = recording;
+      executor.execute(() -> execute(call, form, scheduled, record));
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    report(System.nanoTime() - measureFrom, gcBefore);
+  }
+
+  private void execute(IntConsumer call, int form, long scheduled, boolean record) {
+    var allocatedBefore = threadMxBean.getCurrentThreadAllocatedBytes();
+    Outcome outcome;
+    try {
+      call.accept(form);
+      outcome = Outcome.OK;
+    } catch (SubmissionValidationException ex) {
+      outcome = Outcome.INVALID;
+    } catch (RejectedExecutionException ex) {
+      outcome = Outcome.REJECTED;
+    } catch (RuntimeException ex) {
+      if (record) {
+        firstError.compareAndSet(null, ex);
+      }
+      outcome = Outcome.ERROR;
+    }
+    if (record) {
+      latencies.recordValue(Math.max(0, System.nanoTime() - scheduled));
+      outcomes.get(outcome).increment();
+      allocatedBytes.add(threadMxBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+    }
+  }
+
+  private IntConsumer callOf(String method) {
+    var formKey = properties.getFormKey();
+    switch (method) {
+      case "validateFormData":
+        return form -> client.validateFormData(formKey, forms.get(form));
+      case "checkFormData":
+        return form -> client.checkFormData(formKey, forms.get(form));
+      case "validateFileField":
+        var file = FileDataValidationDto.builder()
+            .documentKey("document")
+            .fileName("scan.pdf")
+            .contentType("application/pdf")
+            .size(1024L * 1024)
+            .build();
+        return form -> client.validateFileField(formKey, "scan", file);
+      case "checkFieldNames":
+        var fields = new FormFieldListValidationDto(new ArrayList<>(
+            forms.get(0).getData().keySet()));
+        return form -> client.checkFieldNames(formKey, fields);
+      default:
+        throw new IllegalArgumentException("Unknown client method " + method);
+    }
+  }
+
+  private void report(long elapsedNanos, long[] gcBefore) {
+    var histogram = latencies.getIntervalHistogram();
+    var completed = histogram.getTotalCount();
+    var seconds = elapsedNanos / 1e9;
+    var gcAfter = gc();
+    System.out.printf("Method: %s, target rate: %d/s, threads: %d%n", properties.getMethod(),
+        properties.getRate(), properties.getThreads());
+    System.out.printf("Completed: %d, throughput: %.1f/s%n", completed, completed / seconds);
+    System.out.printf("Latency ms: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+        millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    System.out.printf("Outcomes: %s%n", outcomes.entrySet().stream()
+        .map(entry -> entry.getKey() + " " + entry.getValue().sum())
+        .collect(Collectors.joining(", ")));
+    if (firstError.get() != null) {
+      System.out.printf("First error: %s%n", firstError.get());
+    }
+    var allocated = allocatedBytes.sum();
+    System.out.printf("Allocated by calling threads: %d bytes, %d bytes per call%n",
+        allocated, completed == 0 ? 0 : allocated / completed);
+    System.out.printf("GC: %d collections, %d ms%n", gcAfter[0] - gcBefore[0],
+        gcAfter[1] - gcBefore[1]);
+  }
+
+  private static long[] gc() {
+    var count = 0L;
+    var time = 0L;
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, bean.getCollectionCount());
+      time += Math.max(0, bean.getCollectionTime());
+    }
+    return new long[]{count, time};
+  }
+
+  private static String[] withUrl(String[] args, String url) {
+    var withUrl = Arrays.copyOf(args, args.length + 1);
+    withUrl[args.length] = "--form-submission-validation.url=" + url;
+    return withUrl;
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1e6;
+  }
+
+  @EnableAutoConfiguration
+  @EnableFeignClients(clients = FormValidationClient.class)
+  static class Application {
+  }
+
+  private enum Outcome {
+    OK, INVALID, REJECTED, ERROR
+  }
+
+  /**
+   * Load test parameters, latency distribution is described by {@link LatencyDistribution}.
+   */
+  @Data
+  public static class LoadProperties {
+
+    private int rate = 1000;
+    private int threads = 200;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(30);
+    private String method = "validateFormData";
+    private String formKey = "form";
+    private int fields = 50;
+    private int distinctForms = 1000;
+    private String latency = "lognormal:5:50";
+    private double errorRate;
+    private double invalidRate = 0.1;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.benchmark;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * The class represents a factory of realistic benchmark payloads.
+ */
+final class Payloads {
+
+  private static final String TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+
+  private Payloads() {
+  }
+
+  /**
+   * Returns form data with {@code fields} top-level fields, every tenth of them is a grid of
+   * nested rows down to {@code depth} levels.
+   */
+  static FormDataValidationDto formData(int fields, int depth) {
+    return FormDataValidationDto.builder()
+        .data(data(fields, depth))
+        .processInstanceId("7c3ffa8c-3e0a-11ee-be56-0242ac120002")
+        .build();
+  }
+
+  /**
+   * Returns validation error with {@code errors} field errors.
+   */
+  static ValidationErrorDto validationError(int errors) {
+    var details = new ArrayList<ErrorDetailDto>(errors);
+    for (var i = 0; i < errors; i++) {
+      var detail = new ErrorDetailDto();
+      detail.setMessage("Field field" + i + " is required");
+      detail.setField("field" + i);
+      detail.setValue("");
+      details.add(detail);
+    }
+    var error = new ValidationErrorDto();
+    error.setTraceId("6bf6c1c1d713ec2f");
+    error.setCode("VALIDATION_ERROR");
+    error.setMessage("Validation error");
+    var errorsList = new ErrorsListDto();
+    errorsList.setErrors(details);
+    error.setDetails(errorsList);
+    return error;
+  }
+
+  private static LinkedHashMap<String, Object> data(int fields, int depth) {
+    var data = new LinkedHashMap<String, Object>();
+    for (var i = 0; i < fields; i++) {
+      var key = "field" + i;
+      switch (i % 10) {
+        case 0:
+          data.put(key, depth > 0 ? grid(depth - 1) : TEXT);
+          break;
+        case 1:
+          data.put(key, TEXT.repeat(4));
+          break;
+        case 2:
+          data.put(key, i * 1000L);
+          break;
+        case 3:
+          data.put(key, i % 3 == 0);
+          break;
+        default:
+          data.put(key, "value " + i);
+      }
+    }
+    return data;
+  }
+
+  private static ArrayList<Object> grid(int depth) {
+    var rows = new ArrayList<Object>();
+    for (var i = 0; i < 5; i++) {
+      rows.add(data(10, depth));
+    }
+    return rows;
+  }
+}
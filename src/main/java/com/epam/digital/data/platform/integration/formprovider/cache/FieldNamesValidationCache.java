@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.cache;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.FieldNamesCacheProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.Value;
+
+/**
+ * The class represents a cache of field names check results. Both passed checks and checks
+ * rejected with {@link SubmissionValidationException} are cached under the form key and the
+ * sorted distinct list of field names.
+ * <p>
+ * The remote check runs outside of the cache computation, so a slow call doesn't block other
+ * keys; concurrent misses of the same key may each call the server. A result of a check that was
+ * in progress while the cache was invalidated is not kept. Every caller gets its own copy of a
+ * cached rejection.
+ */
+public class FieldNamesValidationCache {
+
+  private final Cache<Key, Optional<SubmissionValidationException>> cache;
+  private final AtomicLong generation = new AtomicLong();
+
+  public FieldNamesValidationCache(FieldNamesCacheProperties properties) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getExpireAfterWrite())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Check field names using cached result if present, otherwise using {@code remoteCheck}.
+   *
+   * @param formKey     form identifier
+   * @param fields      list of form fields
+   * @param remoteCheck check to run on cache miss
+   * @throws SubmissionValidationException if form doesn't have some of the fields
+   */
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields,
+      Consumer<FormFieldListValidationDto> remoteCheck) {
+    var key = new Key(formKey, normalize(fields.getFields()));
+    var result = cache.getIfPresent(key);
+    if (result != null) {
+      if (result.isPresent()) {
+        throw result.get().copy();
+      }
+      return;
+    }
+    var checkedGeneration = generation.get();
+    try {
+      remoteCheck.accept(fields);
+      result = Optional.empty();
+    } catch (SubmissionValidationException ex) {
+      result = Optional.of(ex.copy());
+      throw ex;
+    } finally {
+      if (result != null) {
+        put(key, result, checkedGeneration);
+      }
+    }
+  }
+
+  /**
+   * Remove all cached results of the form, e.g. after the form was redeployed.
+   *
+   * @param formKey form identifier
+   */
+  public void invalidate(String formKey) {
+    generation.incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> key.getFormKey().equals(formKey));
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /**
+   * Returns hit and miss counters of the cache.
+   *
+   * @return cache statistics
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private void put(Key key, Optional<SubmissionValidationException> result,
+      long checkedGeneration) {
+    cache.put(key, result);
+    if (generation.get() != checkedGeneration) {
+      cache.asMap().remove(key, result);
+    }
+  }
+
+  private static List<String> normalize(List<String> fields) {
+    if (fields == null) {
+      return List.of();
+    }
+    var normalized = new TreeSet<String>();
+    fields.stream().filter(Objects::nonNull).forEach(normalized::add);
+    return List.copyOf(normalized);
+  }
+
+  @Value
+  private static class Key {
+
+    String formKey;
+    List<String> fields;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.cache;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * The class represents the last successfully validated form data of a process instance: hashes
+ * of top-level fields, validation result and approximate size in bytes.
+ */
+@Value
+public class FormDataSnapshot {
+
+  Map<String, ByteBuffer> fieldHashes;
+  FormDataValidationDto result;
+  int weight;
+}
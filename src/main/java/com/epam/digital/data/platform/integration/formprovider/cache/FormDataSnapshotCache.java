@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.cache;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.IncrementalProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Optional;
+import lombok.Value;
+
+/**
+ * The class represents a cache of {@link FormDataSnapshot} under form key and process instance
+ * id. The cache is bounded by the total approximate size of snapshots, snapshots not accessed
+ * for {@code expire-after-access} are evicted.
+ */
+public class FormDataSnapshotCache {
+
+  private final Cache<Key, FormDataSnapshot> cache;
+
+  public FormDataSnapshotCache(IncrementalProperties properties) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(properties.getMaximumWeight().toBytes())
+        .weigher((Key key, FormDataSnapshot snapshot) -> snapshot.getWeight())
+        .expireAfterAccess(properties.getExpireAfterAccess())
+        .recordStats()
+        .build();
+  }
+
+  public Optional<FormDataSnapshot> get(String formKey, String processInstanceId) {
+    return Optional.ofNullable(cache.getIfPresent(new Key(formKey, processInstanceId)));
+  }
+
+  public void put(String formKey, String processInstanceId, FormDataSnapshot snapshot) {
+    cache.put(new Key(formKey, processInstanceId), snapshot);
+  }
+
+  public void invalidate(String formKey, String processInstanceId) {
+    cache.invalidate(new Key(formKey, processInstanceId));
+  }
+
+  /**
+   * Remove all snapshots of the process instance, e.g. after the process was completed.
+   *
+   * @param processInstanceId process instance identifier
+   */
+  public void invalidateProcess(String processInstanceId) {
+    cache.asMap().keySet().removeIf(key -> key.getProcessInstanceId().equals(processInstanceId));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Returns hit and miss counters of the cache.
+   *
+   * @return cache statistics
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  @Value
+  private static class Key {
+
+    String formKey;
+    String processInstanceId;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.cache.FieldNamesValidationCache;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that answers
+ * {@link #checkFieldNames(String, FormFieldListValidationDto)} from
+ * {@link FieldNamesValidationCache}.
+ */
+public class CachingFormValidationClient extends DelegatingFormValidationClient {
+
+  private final FieldNamesValidationCache fieldNamesValidationCache;
+
+  public CachingFormValidationClient(FormValidationClient delegate,
+      FieldNamesValidationCache fieldNamesValidationCache) {
+    super(delegate);
+    this.fieldNamesValidationCache = fieldNamesValidationCache;
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    fieldNamesValidationCache.checkFieldNames(formKey, fields,
+        request -> delegate.checkFieldNames(formKey, request));
+  }
+}
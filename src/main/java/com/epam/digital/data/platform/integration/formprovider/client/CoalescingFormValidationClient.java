@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.CoalescingProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.transport.Deadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that coalesces concurrent
+ * {@link #validateFormData(String, FormDataValidationDto)} calls with the same form key, process
+ * instance and content of data into a single remote call.
+ * <p>
+ * A caller that is the only one to get the result receives it as returned by the delegate, when
+ * the result is shared every other caller gets its own copy of the result or of the
+ * {@link SubmissionValidationException}, so changes made by one caller are not seen by the
+ * others. Failures other than validation errors are not shared, callers that waited for a failed
+ * call make their own calls. A caller waits for the call made by another one no longer than its
+ * {@link Deadline}.
+ * <p>
+ * If {@code reuse-window} is set, completed results are also reused by the calls made within
+ * the window.
+ */
+public class CoalescingFormValidationClient extends DelegatingFormValidationClient {
+
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<Key, Call> inFlight = new ConcurrentHashMap<>();
+  private final Cache<Key, Call> completed;
+
+  public CoalescingFormValidationClient(FormValidationClient delegate, ObjectMapper objectMapper,
+      CoalescingProperties properties) {
+    super(delegate);
+    this.objectMapper = objectMapper;
+    this.completed = properties.getReuseWindow().isZero() ? null : Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getReuseWindow())
+        .build();
+  }
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    var key = new Key(formKey, formData.getProcessInstanceId(), formData.getData());
+    var call = completed == null ? null : completed.getIfPresent(key);
+    if (call != null) {
+      return call.share(this::copy);
+    }
+    var leader = new Call();
+    call = inFlight.compute(key, (k, current) -> {
+      if (current == null) {
+        return leader;
+      }
+      current.waiters++;
+      return current;
+    });
+    if (call == leader) {
+      execute(key, formKey, formData, leader);
+      return leader.share(this::copy);
+    }
+    try {
+      await(key, call);
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      if (!(ex.getCause() instanceof SubmissionValidationException)) {
+        return delegate.validateFormData(formKey, formData);
+      }
+    }
+    return call.share(this::copy);
+  }
+
+  private void await(Key key, Call call) {
+    try {
+      Deadline.join(call.result);
+    } catch (DeadlineExceededException ex) {
+      var waiting = inFlight.computeIfPresent(key, (k, current) -> {
+        if (current == call) {
+          current.waiters--;
+        }
+        return current;
+      }) == call;
+      if (waiting) {
+        throw ex;
+      }
+      call.result.join();
+    }
+  }
+
+  private void execute(Key key, String formKey, FormDataValidationDto formData, Call call) {
+    Throwable failure = null;
+    FormDataValidationDto result = null;
+    try {
+      result = delegate.validateFormData(formKey, formData);
+    } catch (RuntimeException | Error ex) {
+      failure = ex;
+    }
+    inFlight.remove(key, call);
+    var retained = completed != null
+        && (failure == null || failure instanceof SubmissionValidationException);
+    call.shares.set(call.waiters + (retained ? 2 : 1));
+    if (retained) {
+      completed.put(key.snapshot(this::copyData), call);
+    }
+    if (failure == null) {
+      call.result.complete(result);
+      return;
+    }
+    call.result.completeExceptionally(failure);
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    if (!(failure instanceof SubmissionValidationException)) {
+      throw (RuntimeException) failure;
+    }
+  }
+
+  private FormDataValidationDto copy(FormDataValidationDto formData) {
+    return formData == null ? null
+        : objectMapper.convertValue(formData, FormDataValidationDto.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> copyData(Map<String, Object> data) {
+    return objectMapper.convertValue(data, LinkedHashMap.class);
+  }
+
+  /**
+   * The class represents a remote call shared by the leader that makes it and the waiters that
+   * joined while it was in flight. The result is handed out as is to the last of them that takes
+   * it, the others get copies, so the result is never changed while it's being copied.
+   */
+  private static class Call {
+
+    final CompletableFuture<FormDataValidationDto> result = new CompletableFuture<>();
+    final AtomicInteger shares = new AtomicInteger();
+    int waiters;
+
+    FormDataValidationDto share(UnaryOperator<FormDataValidationDto> copier) {
+      var ex = exceptionOf(result);
+      if (shares.get() == 1 && shares.compareAndSet(1, 0)) {
+        if (ex != null) {
+          throw ex;
+        }
+        return result.join();
+      }
+      try {
+        if (ex != null) {
+          throw ex.copy();
+        }
+        return copier.apply(result.join());
+      } finally {
+        shares.decrementAndGet();
+      }
+    }
+
+    private static SubmissionValidationException exceptionOf(
+        CompletableFuture<FormDataValidationDto> result) {
+      return result.handle((value, error) -> error instanceof SubmissionValidationException
+          ? (SubmissionValidationException) error : null).join();
+    }
+  }
+
+  private static class Key {
+
+    final String formKey;
+    final String processInstanceId;
+    final Map<String, Object> data;
+    final int hash;
+
+    Key(String formKey, String processInstanceId, Map<String, Object> data) {
+      this.formKey = formKey;
+      this.processInstanceId = processInstanceId;
+      this.data = data;
+      this.hash = Objects.hash(formKey, processInstanceId, data);
+    }
+
+    Key snapshot(UnaryOperator<Map<String, Object>> copier) {
+      return new Key(formKey, processInstanceId, data == null ? null : copier.apply(data));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      var other = (Key) o;
+      return hash == other.hash && Objects.equals(formKey, other.formKey)
+          && Objects.equals(processInstanceId, other.processInstanceId)
+          && Objects.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a base decorator of {@link FormValidationClient} that forwards all calls
+ * to the delegate. Closing the decorator closes the delegate if it holds resources, so closing
+ * the outermost decorator releases the whole chain.
+ */
+@RequiredArgsConstructor
+public abstract class DelegatingFormValidationClient implements FormValidationClient,
+    AutoCloseable {
+
+  protected final FormValidationClient delegate;
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    return delegate.validateFormData(formKey, formData);
+  }
+
+  @Override
+  public void checkFormData(String formKey, FormDataValidationDto formData) {
+    delegate.checkFormData(formKey, formData);
+  }
+
+  @Override
+  public List<FormDataValidationResultDto> validateFormDataBatch(String formKey,
+      List<FormDataValidationDto> formData) {
+    return delegate.validateFormDataBatch(formKey, formData);
+  }
+
+  @Override
+  public FormDataValidationDto validatePartialFormData(String formKey,
+      FormDataValidationDto formData) {
+    return delegate.validatePartialFormData(formKey, formData);
+  }
+
+  @Override
+  public void validateFileField(String formKey, String fieldKey,
+      FileDataValidationDto fileDataDto) {
+    delegate.validateFileField(formKey, fieldKey, fileDataDto);
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    delegate.checkFieldNames(formKey, fields);
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable) {
+      ((AutoCloseable) delegate).close();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FeignConfig;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+/**
+ * The interface represents a feign client and used to get form definitions.
+ */
+@FeignClient(name = "form-schema-client", url = "${form-schema-provider.url:${form-submission-validation.url}}", configuration = FeignConfig.class)
+public interface FormSchemaClient {
+
+  /**
+   * Get form definition method. The raw response is returned whatever its status is, so
+   * {@code 304 Not Modified} answer to a conditional request is not reported as an error.
+   *
+   * @param formKey     form identifier.
+   * @param ifNoneMatch entity tag of the cached definition, {@code null} for unconditional
+   *                    request.
+   * @return response with {@link FormDto} body and entity tag header, to be closed by caller.
+   */
+  @GetMapping("/forms/{form-key}")
+  Response getForm(@PathVariable("form-key") String formKey,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+}
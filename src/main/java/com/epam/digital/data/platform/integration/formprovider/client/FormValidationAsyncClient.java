@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * The interface represents a non-blocking counterpart of {@link FormValidationClient}. Validation
+ * errors are delivered as
+ * {@link com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException}
+ * failure of the returned future.
+ */
+public interface FormValidationAsyncClient {
+
+  /**
+   * Form data validation method.
+   *
+   * @param formKey  form identifier.
+   * @param formData form data for validation.
+   * @return future of form data.
+   */
+  @PostMapping("/api/form-submissions/{form-key}/validate")
+  CompletableFuture<FormDataValidationDto> validateFormData(
+      @PathVariable("form-key") String formKey, @RequestBody FormDataValidationDto formData);
+
+  /**
+   * Form data validation method that checks only whether the data passes validation, an echoed
+   * body is discarded unread.
+   *
+   * @param formKey  form identifier.
+   * @param formData form data for validation.
+   * @return future completed when validation passed
+   */
+  @PostMapping(value = "/api/form-submissions/{form-key}/validate",
+      headers = FormValidationClient.PREFER_MINIMAL)
+  CompletableFuture<Void> checkFormData(@PathVariable("form-key") String formKey,
+      @RequestBody FormDataValidationDto formData);
+
+  /**
+   * Data validation of a separate field.
+   *
+   * @param formKey     form identifier
+   * @param fieldKey    form field identifier
+   * @param fileDataDto file data for validation
+   * @return future completed when validation passed
+   */
+  @PostMapping("/api/form-submissions/{form-key}/fields/{field-key}/validate")
+  CompletableFuture<Void> validateFileField(@PathVariable("form-key") String formKey,
+      @PathVariable("field-key") String fieldKey, @RequestBody FileDataValidationDto fileDataDto);
+
+  /**
+   * Data validation field names.
+   *
+   * @param formKey form identifier
+   * @param fields  list of form fields
+   * @return future completed when validation passed
+   */
+  @PostMapping("/api/form-submissions/{form-key}/fields/check")
+  CompletableFuture<Void> checkFieldNames(@PathVariable("form-key") String formKey,
+      @RequestBody FormFieldListValidationDto fields);
+}
@@ -19,7 +19,9 @@ package com.epam.digital.data.platform.integration.formprovider.client;
 import com.epam.digital.data.platform.integration.formprovider.config.FeignConfig;
 import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
 import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
 import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -29,9 +31,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 /**
  * The interface represents a feign client and used to validate form data.
  */
-@FeignClient(name = "validation-form-client", url = "${form-submission-validation.url}", configuration = FeignConfig.class)
+@FeignClient(name = "validation-form-client", url = "${form-submission-validation.url}",
+    configuration = FeignConfig.class, primary = false, qualifiers = FormValidationClient.FEIGN_CLIENT_QUALIFIER)
 public interface FormValidationClient {
 
+  /**
+   * Qualifier of the feign client bean, the primary {@link FormValidationClient} bean may be a
+   * decorator of it.
+   */
+  String FEIGN_CLIENT_QUALIFIER = "formValidationFeignClient";
+
+  /**
+   * Request header asking the server not to return the validated data.
+   */
+  String PREFER_MINIMAL = "Prefer=return=minimal";
+
   /**
    * Form data validation method.
    *
@@ -43,6 +57,42 @@ public interface FormValidationClient {
   FormDataValidationDto validateFormData(@PathVariable("form-key") String formKey,
       @RequestBody FormDataValidationDto formData);
 
+  /**
+   * Form data validation method that checks only whether the data passes validation. The server
+   * is asked not to echo the data back with {@code Prefer: return=minimal}, an echoed body is
+   * discarded unread.
+   *
+   * @param formKey  form identifier.
+   * @param formData form data for validation.
+   */
+  @PostMapping(value = "/api/form-submissions/{form-key}/validate", headers = PREFER_MINIMAL)
+  void checkFormData(@PathVariable("form-key") String formKey,
+      @RequestBody FormDataValidationDto formData);
+
+  /**
+   * Batch form data validation method. Items that didn't pass validation are returned with
+   * errors instead of failing the whole request.
+   *
+   * @param formKey  form identifier.
+   * @param formData list of form data for validation.
+   * @return validation results in the order of the request items.
+   */
+  @PostMapping("/api/form-submissions/{form-key}/validate/batch")
+  List<FormDataValidationResultDto> validateFormDataBatch(@PathVariable("form-key") String formKey,
+      @RequestBody List<FormDataValidationDto> formData);
+
+  /**
+   * Partial form data validation method, only the given top-level fields of the form data are
+   * validated.
+   *
+   * @param formKey  form identifier.
+   * @param formData changed part of form data for validation.
+   * @return validated part of form data.
+   */
+  @PostMapping("/api/form-submissions/{form-key}/validate/partial")
+  FormDataValidationDto validatePartialFormData(@PathVariable("form-key") String formKey,
+      @RequestBody FormDataValidationDto formData);
+
   /**
    * Data validation of a separate field.
    *
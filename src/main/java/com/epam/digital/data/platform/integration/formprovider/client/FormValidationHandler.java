@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+
+/**
+ * The interface represents form validation logic running in the same JVM, that is called by
+ * {@link InProcessFormValidationClient} instead of the remote service. Invalid input is reported
+ * by {@link SubmissionValidationException} with the same errors the service would return.
+ */
+public interface FormValidationHandler {
+
+  /**
+   * Form data validation method.
+   *
+   * @param formKey  form identifier.
+   * @param formData form data for validation.
+   * @return form data.
+   */
+  FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData);
+
+  /**
+   * Partial form data validation method, the whole form data is validated by default.
+   *
+   * @param formKey  form identifier.
+   * @param formData partial form data for validation.
+   * @return form data.
+   */
+  default FormDataValidationDto validatePartialFormData(String formKey,
+      FormDataValidationDto formData) {
+    return validateFormData(formKey, formData);
+  }
+
+  /**
+   * Data validation of a separate field.
+   *
+   * @param formKey  form identifier
+   * @param fieldKey form field identifier
+   * @param fileData file data for validation
+   */
+  void validateFileField(String formKey, String fieldKey, FileDataValidationDto fileData);
+
+  /**
+   * Data validation field names.
+   *
+   * @param formKey form identifier
+   * @param fields  list of form fields
+   */
+  void checkFieldNames(String formKey, FormFieldListValidationDto fields);
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.HedgingProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.resilience.RetryBudget;
+import com.epam.digital.data.platform.integration.formprovider.transport.Cancellation;
+import com.epam.digital.data.platform.integration.formprovider.transport.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that hedges idempotent
+ * {@link #validateFormData}, {@link #checkFormData}, {@link #validateFileField} and
+ * {@link #checkFieldNames} calls. The call is made on the caller thread, if it doesn't complete
+ * within {@code percentile} of recent latency of the method, the second attempt is sent, the
+ * first response, including {@link SubmissionValidationException}, is returned and the other
+ * attempt is aborted by its {@link Cancellation}.
+ * <p>
+ * Hedges are limited by {@link RetryBudget}, a share of calls that may be hedged. Hedged
+ * attempts run on the hedging pool of daemon threads that are released when idle, so request
+ * interceptors must not rely on thread-local state of the caller, except the {@link Deadline}
+ * that is propagated. A hedge that doesn't fit into the pool is not sent. The caller waits for
+ * the attempts no longer than its {@link Deadline}.
+ * <p>
+ * If an attempt gets a response without the transport registering an abort action, e.g. with an
+ * application {@code Client} that ignores {@link Cancellation}, a lost attempt can't be aborted,
+ * so from then on the original attempt is made on the hedging pool as well and the caller waits
+ * only for the first response. Closing the client shuts the pools down, calls made after that
+ * are not hedged.
+ * <p>
+ * Calls, sent hedges, hedges that won and hedges throttled by the budget or the pool are counted
+ * by {@code form.validation.client.hedge.*} counters tagged with method name.
+ */
+@Slf4j
+public class HedgingFormValidationClient extends DelegatingFormValidationClient {
+
+  private final Map<String, MethodHedging> methods;
+  private final ThreadPoolExecutor executor;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final RetryBudget budget;
+  private volatile boolean abortable = true;
+
+  public HedgingFormValidationClient(FormValidationClient delegate, HedgingProperties properties,
+      MeterRegistry meterRegistry) {
+    super(delegate);
+    var registry = meterRegistry == null ? new CompositeMeterRegistry() : meterRegistry;
+    this.methods = Stream.of("validateFormData", "checkFormData", "validateFileField",
+            "checkFieldNames")
+        .collect(Collectors.toMap(Function.identity(),
+            method -> new MethodHedging(method, properties, registry)));
+    var threadFactory = new CustomizableThreadFactory("form-validation-hedging-");
+    threadFactory.setDaemon(true);
+    this.executor = new ThreadPoolExecutor(0, properties.getMaxThreads(), 1, TimeUnit.MINUTES,
+        new SynchronousQueue<>(), threadFactory);
+    var timerThreadFactory = new CustomizableThreadFactory("form-validation-hedging-timer-");
+    timerThreadFactory.setDaemon(true);
+    this.scheduler = new ScheduledThreadPoolExecutor(1, timerThreadFactory);
+    this.scheduler.setKeepAliveTime(1, TimeUnit.MINUTES);
+    this.scheduler.allowCoreThreadTimeOut(true);
+    this.scheduler.setRemoveOnCancelPolicy(true);
+    this.budget = new RetryBudget(properties.getBudget(), 0);
+  }
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    return hedge("validateFormData", () -> delegate.validateFormData(formKey, formData));
+  }
+
+  @Override
+  public void checkFormData(String formKey, FormDataValidationDto formData) {
+    hedge("checkFormData", () -> {
+      delegate.checkFormData(formKey, formData);
+      return null;
+    });
+  }
+
+  @Override
+  public void validateFileField(String formKey, String fieldKey,
+      FileDataValidationDto fileDataDto) {
+    hedge("validateFileField", () -> {
+      delegate.validateFileField(formKey, fieldKey, fileDataDto);
+      return null;
+    });
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    hedge("checkFieldNames", () -> {
+      delegate.checkFieldNames(formKey, fields);
+      return null;
+    });
+  }
+
+  private <T> T hedge(String method, Supplier<T> call) {
+    var hedging = methods.get(method);
+    hedging.calls.increment();
+    budget.onRequest();
+    var delay = hedging.threshold;
+    if (delay <= 0) {
+      return hedging.timed(() -> attempt(new Cancellation(), call));
+    }
+    var race = new Race<T>(hedging);
+    var hedge = Deadline.propagate(call);
+    ScheduledFuture<?> timer;
+    try {
+      timer = scheduler.schedule(() -> race.hedge(hedge), delay, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException ex) {
+      return hedging.timed(() -> attempt(new Cancellation(), call));
+    }
+    try {
+      if (abortable || !race.start(hedge)) {
+        race.run(call, false);
+      }
+      return Deadline.join(race.winner);
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw (RuntimeException) ex.getCause();
+    } finally {
+      timer.cancel(false);
+      race.cancel();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    scheduler.shutdownNow();
+    executor.shutdown();
+    super.close();
+  }
+
+  private <T> T attempt(Cancellation cancellation, Supplier<T> call) {
+    T result;
+    try {
+      result = cancellation.call(call);
+    } catch (SubmissionValidationException ex) {
+      checkAbortable(cancellation);
+      throw ex;
+    }
+    checkAbortable(cancellation);
+    return result;
+  }
+
+  private void checkAbortable(Cancellation cancellation) {
+    if (abortable && !cancellation.isAbortable()) {
+      abortable = false;
+      log.warn("Transport doesn't abort cancelled requests, original attempts of hedged calls "
+          + "are made off the caller thread");
+    }
+  }
+
+  private class Race<T> {
+
+    private final MethodHedging hedging;
+    private final CompletableFuture<T> winner = new CompletableFuture<>();
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final List<Cancellation> attempts = new CopyOnWriteArrayList<>();
+
+    Race(MethodHedging hedging) {
+      this.hedging = hedging;
+    }
+
+    void hedge(Supplier<T> call) {
+      if (pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+        return;
+      }
+      if (!budget.tryAcquire()) {
+        hedging.throttled.increment();
+        release();
+        return;
+      }
+      try {
+        executor.execute(() -> run(call, true));
+        hedging.sent.increment();
+      } catch (RejectedExecutionException ex) {
+        hedging.throttled.increment();
+        release();
+      }
+    }
+
+    boolean start(Supplier<T> call) {
+      try {
+        executor.execute(() -> run(call, false));
+        return true;
+      } catch (RejectedExecutionException ex) {
+        return false;
+      }
+    }
+
+    void cancel() {
+      attempts.forEach(Cancellation::cancel);
+    }
+
+    private void run(Supplier<T> call, boolean hedge) {
+      var cancellation = new Cancellation();
+      attempts.add(cancellation);
+      if (winner.isDone()) {
+        cancellation.cancel();
+      }
+      var start = System.nanoTime();
+      boolean won;
+      try {
+        won = winner.complete(attempt(cancellation, call));
+      } catch (SubmissionValidationException ex) {
+        won = winner.completeExceptionally(ex);
+      } catch (RuntimeException | Error ex) {
+        if (!cancellation.isCancelled()) {
+          failure.compareAndSet(null, ex);
+        }
+        release();
+        return;
+      }
+      hedging.record(System.nanoTime() - start);
+      release();
+      if (won) {
+        attempts.stream()
+            .filter(attempt -> attempt != cancellation)
+            .forEach(Cancellation::cancel);
+        if (hedge) {
+          hedging.wins.increment();
+        }
+      }
+    }
+
+    private void release() {
+      if (pending.decrementAndGet() == 0 && !winner.isDone()) {
+        winner.completeExceptionally(failure.get());
+      }
+    }
+  }
+
+  private static class MethodHedging {
+
+    private final long[] samples;
+    private final int minSamples;
+    private final double percentile;
+    private final long minDelay;
+    private final Counter calls;
+    private final Counter sent;
+    private final Counter wins;
+    private final Counter throttled;
+    private int index;
+    private int count;
+    private int sinceUpdate;
+    private volatile long threshold;
+
+    MethodHedging(String method, HedgingProperties properties, MeterRegistry meterRegistry) {
+      this.samples = new long[properties.getSampleSize()];
+      this.minSamples = Math.min(properties.getMinSamples(), samples.length);
+      this.percentile = properties.getPercentile();
+      this.minDelay = properties.getMinDelay().toNanos();
+      this.calls = counter("form.validation.client.hedge.calls", "Calls that may be hedged",
+          method, meterRegistry);
+      this.sent = counter("form.validation.client.hedge.sent", "Hedged attempts sent", method,
+          meterRegistry);
+      this.wins = counter("form.validation.client.hedge.wins",
+          "Hedged attempts completed before the original ones", method, meterRegistry);
+      this.throttled = counter("form.validation.client.hedge.throttled",
+          "Hedged attempts not sent because of the budget", method, meterRegistry);
+    }
+
+    <T> T timed(Supplier<T> call) {
+      var start = System.nanoTime();
+      try {
+        var result = call.get();
+        record(System.nanoTime() - start);
+        return result;
+      } catch (SubmissionValidationException ex) {
+        record(System.nanoTime() - start);
+        throw ex;
+      }
+    }
+
+    synchronized void record(long latency) {
+      samples[index] = latency;
+      index = (index + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+      if (count >= minSamples
+          && (threshold == 0 || ++sinceUpdate >= Math.max(1, samples.length / 10))) {
+        sinceUpdate = 0;
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        var rank = (int) Math.ceil(percentile * count) - 1;
+        threshold = Math.max(minDelay, sorted[Math.max(0, rank)]);
+      }
+    }
+
+    private static Counter counter(String name, String description, String method,
+        MeterRegistry meterRegistry) {
+      return Counter.builder(name)
+          .description(description)
+          .tag("method", method)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class represents an implementation of {@link FormValidationClient} that calls
+ * {@link FormValidationHandler} in the same JVM without HTTP and serialization.
+ * <p>
+ * If {@code copy} is set, form data is copied with {@link ObjectMapper} on the way in and out and
+ * validation errors are {@link SubmissionValidationException#copy() copied}, so neither side sees
+ * changes made by the other one and values have the same types as if they were sent over the
+ * wire. Otherwise, values are passed as is. Batch validation and {@link #checkFormData} are served by
+ * {@link FormValidationHandler#validateFormData}, partial validation by
+ * {@link FormValidationHandler#validatePartialFormData}.
+ */
+public class InProcessFormValidationClient implements FormValidationClient {
+
+  private final FormValidationHandler handler;
+  private final ObjectMapper objectMapper;
+  private final boolean copy;
+
+  public InProcessFormValidationClient(FormValidationHandler handler, ObjectMapper objectMapper,
+      boolean copy) {
+    this.handler = handler;
+    this.objectMapper = objectMapper;
+    this.copy = copy;
+  }
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    try {
+      return copy(handler.validateFormData(formKey, copy(formData)));
+    } catch (SubmissionValidationException ex) {
+      throw copy(ex);
+    }
+  }
+
+  @Override
+  public void checkFormData(String formKey, FormDataValidationDto formData) {
+    validateFormData(formKey, formData);
+  }
+
+  @Override
+  public List<FormDataValidationResultDto> validateFormDataBatch(String formKey,
+      List<FormDataValidationDto> formDataList) {
+    var results = new ArrayList<FormDataValidationResultDto>(formDataList.size());
+    for (var formData : formDataList) {
+      try {
+        results.add(FormDataValidationResultDto.builder()
+            .formData(validateFormData(formKey, formData))
+            .build());
+      } catch (SubmissionValidationException ex) {
+        results.add(FormDataValidationResultDto.builder()
+            .formData(copy(formData))
+            .errors(ex.getErrors())
+            .build());
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public FormDataValidationDto validatePartialFormData(String formKey,
+      FormDataValidationDto formData) {
+    try {
+      return copy(handler.validatePartialFormData(formKey, copy(formData)));
+    } catch (SubmissionValidationException ex) {
+      throw copy(ex);
+    }
+  }
+
+  @Override
+  public void validateFileField(String formKey, String fieldKey,
+      FileDataValidationDto fileDataDto) {
+    try {
+      handler.validateFileField(formKey, fieldKey, copy(fileDataDto));
+    } catch (SubmissionValidationException ex) {
+      throw copy(ex);
+    }
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    try {
+      handler.checkFieldNames(formKey, copy(fields));
+    } catch (SubmissionValidationException ex) {
+      throw copy(ex);
+    }
+  }
+
+  private SubmissionValidationException copy(SubmissionValidationException ex) {
+    return copy ? ex.copy() : ex;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T copy(T value) {
+    return value == null || !copy ? value
+        : (T) objectMapper.convertValue(value, value.getClass());
+  }
+}
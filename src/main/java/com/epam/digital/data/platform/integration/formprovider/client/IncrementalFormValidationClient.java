@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.cache.FormDataSnapshot;
+import com.epam.digital.data.platform.integration.formprovider.cache.FormDataSnapshotCache;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that validates form data of a
+ * process instance incrementally. The last successfully validated data of every process
+ * instance and form is kept in {@link FormDataSnapshotCache} as hashes of top-level fields.
+ * <ul>
+ *   <li>if no top-level field changed, the previous result is returned without a remote
+ *   call</li>
+ *   <li>if {@code partial} is enabled and fields were only changed or added, only they are sent
+ *   to {@link #validatePartialFormData(String, FormDataValidationDto)} and the result is merged
+ *   with the previous one</li>
+ *   <li>otherwise the whole form data is validated</li>
+ * </ul>
+ * If the partial endpoint is not supported, whole form data is validated and the endpoint is
+ * probed again after {@code partialProbeInterval}. Results are kept and returned as deep copies,
+ * so callers may change them. Form data without process instance id is always validated as a
+ * whole.
+ * {@link #checkFormData(String, FormDataValidationDto)} passes without a remote call if no field
+ * changed since the last validation.
+ */
+public class IncrementalFormValidationClient extends DelegatingFormValidationClient {
+
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final FormDataSnapshotCache snapshotCache;
+  private final ObjectMapper objectMapper;
+  private final boolean partial;
+  private final OptionalEndpoint partialEndpoint;
+
+  public IncrementalFormValidationClient(FormValidationClient delegate,
+      FormDataSnapshotCache snapshotCache, ObjectMapper objectMapper, boolean partial,
+      Duration partialProbeInterval) {
+    super(delegate);
+    this.snapshotCache = snapshotCache;
+    this.objectMapper = objectMapper;
+    this.partial = partial;
+    this.partialEndpoint = new OptionalEndpoint("Partial validation", partialProbeInterval);
+  }
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    var processInstanceId = formData.getProcessInstanceId();
+    if (processInstanceId == null || formData.getData() == null) {
+      return delegate.validateFormData(formKey, formData);
+    }
+    var fieldHashes = new LinkedHashMap<String, ByteBuffer>();
+    var weight = hash(formData.getData(), fieldHashes);
+    var snapshot = snapshotCache.get(formKey, processInstanceId).orElse(null);
+    FormDataValidationDto result;
+    try {
+      if (snapshot == null) {
+        result = delegate.validateFormData(formKey, formData);
+      } else {
+        var changed = changedFields(snapshot.getFieldHashes(), fieldHashes);
+        var removed = !fieldHashes.keySet().containsAll(snapshot.getFieldHashes().keySet());
+        if (changed.isEmpty() && !removed) {
+          return copyOf(snapshot.getResult());
+        }
+        result = isPartialSupported() && !removed
+            ? validatePartially(formKey, formData, changed, snapshot)
+            : delegate.validateFormData(formKey, formData);
+      }
+    } catch (RuntimeException ex) {
+      snapshotCache.invalidate(formKey, processInstanceId);
+      throw ex;
+    }
+    snapshotCache.put(formKey, processInstanceId,
+        new FormDataSnapshot(Map.copyOf(fieldHashes), copyOf(result), weight));
+    return result;
+  }
+
+  @Override
+  public void checkFormData(String formKey, FormDataValidationDto formData) {
+    var processInstanceId = formData.getProcessInstanceId();
+    var snapshot = processInstanceId == null || formData.getData() == null ? null
+        : snapshotCache.get(formKey, processInstanceId).orElse(null);
+    if (snapshot != null) {
+      var fieldHashes = new LinkedHashMap<String, ByteBuffer>();
+      hash(formData.getData(), fieldHashes);
+      if (fieldHashes.equals(snapshot.getFieldHashes())) {
+        return;
+      }
+    }
+    delegate.checkFormData(formKey, formData);
+  }
+
+  private FormDataValidationDto validatePartially(String formKey, FormDataValidationDto formData,
+      List<String> changed, FormDataSnapshot snapshot) {
+    var changedData = new LinkedHashMap<String, Object>();
+    changed.forEach(field -> changedData.put(field, formData.getData().get(field)));
+    FormDataValidationDto partialResult;
+    try {
+      partialResult = delegate.validatePartialFormData(formKey, FormDataValidationDto.builder()
+          .data(changedData)
+          .processInstanceId(formData.getProcessInstanceId())
+          .build());
+    } catch (FeignException ex) {
+      if (!partialEndpoint.onFailure(ex)) {
+        throw ex;
+      }
+      return delegate.validateFormData(formKey, formData);
+    }
+    partialEndpoint.onSuccess();
+    var validated = partialResult == null || partialResult.getData() == null
+        ? changedData : partialResult.getData();
+    var previous = snapshot.getResult().getData();
+    var merged = new LinkedHashMap<String, Object>();
+    formData.getData().forEach((field, value) -> merged.put(field, validated.containsKey(field)
+        ? validated.get(field) : previous.getOrDefault(field, value)));
+    return FormDataValidationDto.builder()
+        .data(merged)
+        .processInstanceId(formData.getProcessInstanceId())
+        .build();
+  }
+
+  private boolean isPartialSupported() {
+    return partial && partialEndpoint.isAvailable();
+  }
+
+  private static List<String> changedFields(Map<String, ByteBuffer> previous,
+      Map<String, ByteBuffer> current) {
+    var changed = new ArrayList<String>();
+    current.forEach((field, hash) -> {
+      if (!hash.equals(previous.get(field))) {
+        changed.add(field);
+      }
+    });
+    return changed;
+  }
+
+  @SneakyThrows
+  private int hash(Map<String, Object> data, Map<String, ByteBuffer> fieldHashes) {
+    var digest = MessageDigest.getInstance("SHA-256");
+    long weight = ENTRY_OVERHEAD;
+    for (var field : data.entrySet()) {
+      var bytes = objectMapper.writeValueAsBytes(field.getValue());
+      fieldHashes.put(field.getKey(), ByteBuffer.wrap(digest.digest(bytes)));
+      weight += 2L * bytes.length + field.getKey().length() + ENTRY_OVERHEAD;
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private FormDataValidationDto copyOf(FormDataValidationDto result) {
+    return result == null ? null
+        : objectMapper.convertValue(result, FormDataValidationDto.class);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.metrics.FormValidationMetrics;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that records latency and
+ * outcome of every call to {@link FormValidationMetrics}.
+ */
+public class MeteredFormValidationClient extends DelegatingFormValidationClient {
+
+  private final FormValidationMetrics metrics;
+
+  public MeteredFormValidationClient(FormValidationClient delegate,
+      FormValidationMetrics metrics) {
+    super(delegate);
+    this.metrics = metrics;
+  }
+
+  @Override
+  public FormDataValidationDto validateFormData(String formKey, FormDataValidationDto formData) {
+    return record("validateFormData", formKey,
+        () -> delegate.validateFormData(formKey, formData));
+  }
+
+  @Override
+  public void checkFormData(String formKey, FormDataValidationDto formData) {
+    record("checkFormData", formKey, () -> {
+      delegate.checkFormData(formKey, formData);
+      return null;
+    });
+  }
+
+  @Override
+  public List<FormDataValidationResultDto> validateFormDataBatch(String formKey,
+      List<FormDataValidationDto> formData) {
+    return record("validateFormDataBatch", formKey,
+        () -> delegate.validateFormDataBatch(formKey, formData));
+  }
+
+  @Override
+  public FormDataValidationDto validatePartialFormData(String formKey,
+      FormDataValidationDto formData) {
+    return record("validatePartialFormData", formKey,
+        () -> delegate.validatePartialFormData(formKey, formData));
+  }
+
+  @Override
+  public void validateFileField(String formKey, String fieldKey,
+      FileDataValidationDto fileDataDto) {
+    record("validateFileField", formKey, () -> {
+      delegate.validateFileField(formKey, fieldKey, fileDataDto);
+      return null;
+    });
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    record("checkFieldNames", formKey, () -> {
+      delegate.checkFieldNames(formKey, fields);
+      return null;
+    });
+  }
+
+  private <T> T record(String method, String formKey, Supplier<T> call) {
+    var start = System.nanoTime();
+    Throwable error = null;
+    try {
+      return call.get();
+    } catch (RuntimeException | Error ex) {
+      error = ex;
+      throw ex;
+    } finally {
+      metrics.recordCall(method, formKey, System.nanoTime() - start, error);
+    }
+  }
+}
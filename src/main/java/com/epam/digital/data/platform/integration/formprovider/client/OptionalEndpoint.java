@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import feign.FeignException;
+import java.time.Duration;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The class represents support state of a server endpoint that older servers may not provide.
+ * An endpoint that answered with 404, 405 or 501 status is considered not supported, callers fall
+ * back to other endpoints then, and it is probed again after {@code probeInterval}.
+ */
+@Slf4j
+public class OptionalEndpoint {
+
+  private static final Set<Integer> UNSUPPORTED_STATUSES = Set.of(
+      HttpStatus.NOT_FOUND.value(), HttpStatus.METHOD_NOT_ALLOWED.value(),
+      HttpStatus.NOT_IMPLEMENTED.value());
+
+  private final String name;
+  private final long probeIntervalNanos;
+  private volatile long unsupportedUntil;
+  private volatile boolean unsupported;
+
+  public OptionalEndpoint(String name, Duration probeInterval) {
+    this.name = name;
+    this.probeIntervalNanos = probeInterval.toNanos();
+  }
+
+  /**
+   * Check whether the endpoint is supported or is due to be probed again.
+   *
+   * @return {@code true} if the endpoint should be called
+   */
+  public boolean isAvailable() {
+    return !unsupported || System.nanoTime() - unsupportedUntil >= 0;
+  }
+
+  public void onSuccess() {
+    unsupported = false;
+  }
+
+  /**
+   * Record a failed call of the endpoint.
+   *
+   * @param ex failure of the call
+   * @return {@code true} if the endpoint is not supported and the caller should fall back
+   */
+  public boolean onFailure(FeignException ex) {
+    if (!UNSUPPORTED_STATUSES.contains(ex.status())) {
+      return false;
+    }
+    log.warn("{} endpoint is not supported, status {}", name, ex.status());
+    unsupportedUntil = System.nanoTime() + probeIntervalNanos;
+    unsupported = true;
+    return true;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.client;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormFieldListValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.integration.formprovider.schema.FileFieldRule;
+import com.epam.digital.data.platform.integration.formprovider.schema.FileFieldRule.Verdict;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormFieldIndex;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormSchema;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormSchemaRepository;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The class represents a decorator of {@link FormValidationClient} that answers
+ * {@link #checkFieldNames(String, FormFieldListValidationDto)} in-process by
+ * {@link FormFieldIndex} and {@link #validateFileField(String, String, FileDataValidationDto)}
+ * by {@link FileFieldRule} of the form definition loaded to {@link FormSchemaRepository}. The
+ * remote check is used if the rule can't decide on the file or the definition isn't loaded yet,
+ * a missing definition is loaded in background, so later calls are answered locally.
+ */
+public class SchemaAwareFormValidationClient extends DelegatingFormValidationClient {
+
+  private static final String MISSING_FIELDS_MESSAGE = "Task form does not have fields with names ";
+  private static final String MISSING_FIELD_MESSAGE = "Task form does not have the field.";
+  private static final String VALIDATION_ERROR_CODE = "VALIDATION_ERROR";
+  private static final String FILE_FIELD = "file";
+  private static final String TYPE_NOT_SUPPORTED_MESSAGE =
+      "The type of the downloaded file is not supported.";
+
+  private final FormSchemaRepository formSchemaRepository;
+  private final boolean localFieldNamesCheck;
+  private final boolean localFileCheck;
+
+  public SchemaAwareFormValidationClient(FormValidationClient delegate,
+      FormSchemaRepository formSchemaRepository, boolean localFieldNamesCheck,
+      boolean localFileCheck) {
+    super(delegate);
+    this.formSchemaRepository = formSchemaRepository;
+    this.localFieldNamesCheck = localFieldNamesCheck;
+    this.localFileCheck = localFileCheck;
+  }
+
+  @Override
+  public void validateFileField(String formKey, String fieldKey,
+      FileDataValidationDto fileDataDto) {
+    var rule = localFileCheck ? formSchemaRepository.findOrLoad(formKey)
+        .map(schema -> schema.getFileRules().get(fieldKey)) : Optional.<FileFieldRule>empty();
+    var verdict = rule.map(fileRule -> fileRule.check(fileDataDto)).orElse(Verdict.UNKNOWN);
+    switch (verdict) {
+      case VALID:
+        return;
+      case TYPE_NOT_SUPPORTED:
+        throw fileValidationError(TYPE_NOT_SUPPORTED_MESSAGE);
+      default:
+        delegate.validateFileField(formKey, fieldKey, fileDataDto);
+    }
+  }
+
+  @Override
+  public void checkFieldNames(String formKey, FormFieldListValidationDto fields) {
+    var schema = localFieldNamesCheck ? formSchemaRepository.findOrLoad(formKey)
+        : Optional.<FormSchema>empty();
+    if (schema.isEmpty()) {
+      delegate.checkFieldNames(formKey, fields);
+      return;
+    }
+    var missing = schema.get().getFieldIndex().missing(fields.getFields());
+    if (!missing.isEmpty()) {
+      throw validationError(MISSING_FIELDS_MESSAGE + String.join(", ", missing),
+          missing.stream()
+              .map(field -> errorDetail(field, MISSING_FIELD_MESSAGE))
+              .collect(Collectors.toList()));
+    }
+  }
+
+  private static SubmissionValidationException fileValidationError(String message) {
+    return validationError(null, List.of(errorDetail(FILE_FIELD, message)));
+  }
+
+  private static SubmissionValidationException validationError(String message,
+      List<ErrorDetailDto> details) {
+    return new SubmissionValidationException(ValidationErrorDto.builder()
+        .code(VALIDATION_ERROR_CODE)
+        .message(message)
+        .details(ErrorsListDto.builder().errors(details).build())
+        .build());
+  }
+
+  private static ErrorDetailDto errorDetail(String field, String message) {
+    return ErrorDetailDto.builder()
+        .field(field)
+        .value("")
+        .message(message)
+        .build();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Jackson module that replaces reflection based property access with generated accessors. The
+ * module is optional and has to be added to the application classpath.
+ */
+public enum AccessorModule {
+  /**
+   * Reflection based accessors.
+   */
+  NONE(null),
+  /**
+   * {@code jackson-module-afterburner} bytecode generated accessors.
+   */
+  AFTERBURNER("com.fasterxml.jackson.module.afterburner.AfterburnerModule"),
+  /**
+   * {@code jackson-module-blackbird} {@code LambdaMetafactory} generated accessors, preferred on
+   * Java 11 and later.
+   */
+  BLACKBIRD("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+
+  private final String moduleClassName;
+
+  AccessorModule(String moduleClassName) {
+    this.moduleClassName = moduleClassName;
+  }
+
+  /**
+   * Returns a copy of {@code objectMapper} with the module registered, {@code objectMapper}
+   * itself for {@link #NONE}.
+   *
+   * @param objectMapper configured object mapper
+   * @return object mapper with generated accessors
+   * @throws IllegalStateException if the module is not on the classpath
+   */
+  public ObjectMapper apply(ObjectMapper objectMapper) {
+    if (moduleClassName == null) {
+      return objectMapper;
+    }
+    var classLoader = AccessorModule.class.getClassLoader();
+    if (!ClassUtils.isPresent(moduleClassName, classLoader)) {
+      throw new IllegalStateException(
+          "Jackson module " + moduleClassName + " is not found on the classpath");
+    }
+    var moduleClass = ClassUtils.resolveClassName(moduleClassName, classLoader);
+    return objectMapper.copy()
+        .registerModule((Module) BeanUtils.instantiateClass(moduleClass));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import feign.Capability;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a pair of {@link Encoder} and {@link Decoder} acting as one component.
+ * <p>
+ * Feign enriches a component with the first {@link Capability} method that returns its type, so
+ * a codec that implements both interfaces, like {@link PreparedJacksonCodec}, may get an
+ * encoder in place of the decoder or vice versa. Capabilities return this class for such codecs
+ * to keep both roles enriched whichever method is called.
+ */
+@RequiredArgsConstructor
+public class CompositeCodec implements Encoder, Decoder {
+
+  private final Encoder encoder;
+  private final Decoder decoder;
+
+  @Override
+  public void encode(Object object, Type bodyType, RequestTemplate template) {
+    encoder.encode(object, bodyType, template);
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    return decoder.decode(response, type);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import feign.Contract;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * The class represents a feign {@link Encoder} and {@link Decoder} that (de)serializes bodies
+ * with {@link ObjectWriter} and {@link ObjectReader} instances prepared once per type, instead
+ * of resolving message converters and types on every call. Readers and writers of the bodies of
+ * feign client methods are built when the codec is {@link #prepare(Contract, Class) prepared}
+ * for the client, the ones of other types on first use. Parser and generator buffers are reused
+ * through Jackson buffer recycling.
+ * <p>
+ * {@link ResponseEntity} and {@link Optional} responses are decoded by {@code fallbackDecoder}.
+ */
+public class PreparedJacksonCodec implements Encoder, Decoder {
+
+  private static final String CONTENT_TYPE = "Content-Type";
+
+  private final ObjectMapper objectMapper;
+  private final String mediaType;
+  private final Decoder fallbackDecoder;
+  private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  public PreparedJacksonCodec(ObjectMapper objectMapper, String mediaType,
+      Decoder fallbackDecoder) {
+    this.objectMapper = objectMapper;
+    this.mediaType = mediaType;
+    this.fallbackDecoder = fallbackDecoder;
+  }
+
+  /**
+   * Prepares readers and writers of request and response bodies of the client methods, as the
+   * contract describes them. Results of async methods are prepared by the type of their future
+   * value.
+   *
+   * @param contract   contract of the client
+   * @param clientType feign client interface
+   * @return this codec
+   */
+  public PreparedJacksonCodec prepare(Contract contract, Class<?> clientType) {
+    for (var metadata : contract.parseAndValidateMetadata(clientType)) {
+      if (metadata.bodyType() != null) {
+        writer(metadata.bodyType());
+      }
+      var resultType = resultTypeOf(metadata.returnType());
+      if (resultType != void.class && resultType != Void.class
+          && resultType != Response.class && !isWrapper(resultType)) {
+        reader(resultType);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public void encode(Object object, Type bodyType, RequestTemplate template) {
+    try {
+      template.body(writer(bodyType).writeValueAsBytes(object), null);
+    } catch (IOException ex) {
+      throw new EncodeException("Failed to encode request body: " + ex.getMessage(), ex);
+    }
+    template.removeHeader(CONTENT_TYPE).header(CONTENT_TYPE, mediaType);
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    if (isWrapper(type)) {
+      return fallbackDecoder.decode(response, type);
+    }
+    if (response.body() == null) {
+      return Util.emptyValueOf(type);
+    }
+    try (var body = new PushbackInputStream(response.body().asInputStream())) {
+      var first = body.read();
+      if (first == -1) {
+        return Util.emptyValueOf(type);
+      }
+      body.unread(first);
+      return reader(type).readValue(body);
+    } catch (IOException ex) {
+      throw new DecodeException(response.status(),
+          "Failed to decode response body: " + ex.getMessage(), response.request(), ex);
+    }
+  }
+
+  private ObjectWriter writer(Type type) {
+    return writers.computeIfAbsent(type,
+        key -> objectMapper.writerFor(typeFactory().constructType(key)));
+  }
+
+  private ObjectReader reader(Type type) {
+    return readers.computeIfAbsent(type,
+        key -> objectMapper.readerFor(typeFactory().constructType(key)));
+  }
+
+  private TypeFactory typeFactory() {
+    return objectMapper.getTypeFactory();
+  }
+
+  private static Type resultTypeOf(Type returnType) {
+    if (returnType instanceof ParameterizedType
+        && ((ParameterizedType) returnType).getRawType() == CompletableFuture.class) {
+      return ((ParameterizedType) returnType).getActualTypeArguments()[0];
+    }
+    return returnType;
+  }
+
+  private static boolean isWrapper(Type type) {
+    var rawType = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType()
+        : type;
+    return rawType == ResponseEntity.class || rawType == Optional.class;
+  }
+}
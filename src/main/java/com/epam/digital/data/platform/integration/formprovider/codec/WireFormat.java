@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Wire format of request and response bodies of form validation client.
+ */
+public enum WireFormat {
+  /**
+   * Text JSON.
+   */
+  JSON("application/json", JsonFactory::new),
+  /**
+   * Jackson Smile binary JSON.
+   */
+  SMILE("application/x-jackson-smile", SmileFactory::new),
+  /**
+   * CBOR binary JSON.
+   */
+  CBOR("application/cbor", CBORFactory::new);
+
+  private final String mediaType;
+  private final Supplier<JsonFactory> factory;
+
+  WireFormat(String mediaType, Supplier<JsonFactory> factory) {
+    this.mediaType = mediaType;
+    this.factory = factory;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public boolean isBinary() {
+    return this != JSON;
+  }
+
+  /**
+   * Returns object mapper of the format with settings, serializers and deserializers of
+   * {@code base}, including the ones registered by modules, {@code base} is returned as is for
+   * {@link #JSON}.
+   *
+   * @param base configured JSON object mapper
+   * @return object mapper of the format
+   */
+  public ObjectMapper mapper(ObjectMapper base) {
+    if (!isBinary()) {
+      return base;
+    }
+    var mapper = new ObjectMapper(factory.get(),
+        ((DefaultSerializerProvider) base.getSerializerProvider()).copy(),
+        ((DefaultDeserializationContext) base.getDeserializationContext()).copy());
+    mapper.setSerializerFactory(base.getSerializerFactory());
+    mapper.setInjectableValues(base.getInjectableValues());
+    mapper.setConfig(base.getSerializationConfig());
+    mapper.setConfig(base.getDeserializationConfig());
+    return mapper;
+  }
+
+  /**
+   * Returns format of the {@code Content-Type} header values, {@link #JSON} if none matches.
+   *
+   * @param contentType values of {@code Content-Type} header, may be {@code null}
+   * @return body format
+   */
+  public static WireFormat of(Collection<String> contentType) {
+    if (contentType == null) {
+      return JSON;
+    }
+    for (var value : contentType) {
+      var normalized = value.toLowerCase(Locale.ROOT);
+      for (var format : values()) {
+        if (format.isBinary() && normalized.startsWith(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+    return JSON;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The class represents a {@link Capability} that negotiates a binary {@link WireFormat} of
+ * request and response bodies.
+ * <p>
+ * Request bodies are encoded in the binary format and both the binary format and JSON are
+ * accepted in responses. If the server rejects the binary body with 415 status, the request is
+ * resent as JSON and JSON is used for {@code fallbackDuration}, then the binary format is tried
+ * again.
+ * <p>
+ * With {@link WireFormat#JSON} the capability leaves all components as is.
+ */
+@Slf4j
+public class WireFormatCapability implements Capability {
+
+  private static final int UNSUPPORTED_MEDIA_TYPE = 415;
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String CONTENT_LENGTH = "Content-Length";
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String ACCEPT = "Accept";
+
+  private final WireFormat format;
+  private final ObjectMapper jsonMapper;
+  private final ObjectMapper binaryMapper;
+  private final long fallbackNanos;
+  private volatile long jsonUntil;
+
+  public WireFormatCapability(WireFormat format, ObjectMapper objectMapper,
+      Duration fallbackDuration) {
+    this.format = format;
+    this.jsonMapper = objectMapper;
+    this.binaryMapper = format.mapper(objectMapper);
+    this.fallbackNanos = fallbackDuration.toNanos();
+  }
+
+  /**
+   * Returns {@code true} if the binary format is currently used for request bodies.
+   *
+   * @return whether binary format is used
+   */
+  public boolean isBinaryActive() {
+    var until = jsonUntil;
+    return format.isBinary() && (until == 0 || System.nanoTime() - until > 0);
+  }
+
+  @Override
+  public Encoder enrich(Encoder encoder) {
+    if (!format.isBinary()) {
+      return encoder;
+    }
+    if (encoder instanceof Decoder) {
+      return new CompositeCodec(binaryEncoder(encoder), binaryDecoder((Decoder) encoder));
+    }
+    return binaryEncoder(encoder);
+  }
+
+  @Override
+  public Decoder enrich(Decoder decoder) {
+    if (!format.isBinary()) {
+      return decoder;
+    }
+    if (decoder instanceof Encoder) {
+      return new CompositeCodec(binaryEncoder((Encoder) decoder), binaryDecoder(decoder));
+    }
+    return binaryDecoder(decoder);
+  }
+
+  private Encoder binaryEncoder(Encoder encoder) {
+    var binaryEncoder = new PreparedJacksonCodec(binaryMapper, format.getMediaType(), null);
+    return (object, bodyType, template) -> {
+      if (!isBinaryActive()) {
+        encoder.encode(object, bodyType, template);
+        return;
+      }
+      binaryEncoder.encode(object, bodyType, template);
+      template.removeHeader(ACCEPT)
+          .header(ACCEPT, format.getMediaType(), WireFormat.JSON.getMediaType());
+    };
+  }
+
+  private Decoder binaryDecoder(Decoder decoder) {
+    var binaryDecoder = new PreparedJacksonCodec(binaryMapper, format.getMediaType(), decoder);
+    return (response, type) -> WireFormat.of(response.headers().get(CONTENT_TYPE)) == format
+        ? binaryDecoder.decode(response, type) : decoder.decode(response, type);
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    if (!format.isBinary()) {
+      return client;
+    }
+    return (request, options) -> {
+      var response = client.execute(request, options);
+      if (response.status() != UNSUPPORTED_MEDIA_TYPE || !isTranscodable(request)) {
+        return response;
+      }
+      log.warn("Server does not accept {} request body, falling back to JSON for {}", format,
+          Duration.ofNanos(fallbackNanos));
+      jsonUntil = System.nanoTime() + fallbackNanos;
+      Util.ensureClosed(response);
+      return client.execute(toJson(request), options);
+    };
+  }
+
+  private boolean isTranscodable(Request request) {
+    return request.body() != null && !request.headers().containsKey(CONTENT_ENCODING)
+        && WireFormat.of(request.headers().get(CONTENT_TYPE)) == format;
+  }
+
+  private Request toJson(Request request) throws IOException {
+    var body = jsonMapper.writeValueAsBytes(binaryMapper.readTree(request.body()));
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    headers.put(CONTENT_TYPE, List.of(WireFormat.JSON.getMediaType()));
+    headers.put(ACCEPT, List.of(WireFormat.JSON.getMediaType()));
+    headers.put(CONTENT_LENGTH, List.of(String.valueOf(body.length)));
+    return Request.create(request.httpMethod(), request.url(), headers, body,
+        request.charset(), request.requestTemplate());
+  }
+}
@@ -16,24 +16,109 @@
 
 package com.epam.digital.data.platform.integration.formprovider.config;
 
+import com.epam.digital.data.platform.integration.formprovider.client.FormSchemaClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.codec.PreparedJacksonCodec;
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormatCapability;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.ConcurrencyLimiterProperties;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.LimitAlgorithm;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.LoadBalancerProperties;
 import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.loadbalancer.LoadBalancer;
+import com.epam.digital.data.platform.integration.formprovider.loadbalancer.LoadBalancingCapability;
+import com.epam.digital.data.platform.integration.formprovider.metrics.FormValidationMetrics;
+import com.epam.digital.data.platform.integration.formprovider.metrics.MeteredErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.metrics.MetricsCapability;
+import com.epam.digital.data.platform.integration.formprovider.resilience.AdaptiveLimit;
+import com.epam.digital.data.platform.integration.formprovider.resilience.AimdLimit;
+import com.epam.digital.data.platform.integration.formprovider.resilience.CircuitBreaker;
+import com.epam.digital.data.platform.integration.formprovider.resilience.ConcurrencyLimiter;
+import com.epam.digital.data.platform.integration.formprovider.resilience.ResilienceCapability;
+import com.epam.digital.data.platform.integration.formprovider.resilience.RetryCapability;
+import com.epam.digital.data.platform.integration.formprovider.resilience.VegasLimit;
+import com.epam.digital.data.platform.integration.formprovider.transport.CancellableHttpClient;
+import com.epam.digital.data.platform.integration.formprovider.transport.DeadlineCapability;
+import com.epam.digital.data.platform.integration.formprovider.transport.GzipCapability;
+import com.epam.digital.data.platform.integration.formprovider.transport.JdkHttpClient;
+import com.epam.digital.data.platform.integration.formprovider.transport.MethodOptionsCapability;
+import com.epam.digital.data.platform.integration.formprovider.transport.StreamingClient;
+import com.epam.digital.data.platform.integration.formprovider.transport.UrlConnectionClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Contract;
+import feign.codec.ErrorDecoder;
+import feign.hc5.ApacheHttp5Client;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
 
 /**
  * The class represents a configuration for feign client.
+ * <p>
+ * Capabilities are applied in the order of declaration, the first one is the closest to the
+ * transport, so metrics see bytes on the wire and compression sees the encoded body. Retry
+ * capability is the outermost one, so calls rejected by resilience capability are not retried
+ * and don't reach the capabilities closer to the transport.
  */
 public class FeignConfig {
 
+  private static final String CLIENT_NAME_PROPERTY = "feign.client.name";
+  private static final String URL_PROPERTY = "form-submission-validation.url";
+
   /**
    * Returns error decoder {@link FormValidationErrorDecoder}
    *
    * @return error decoder for form management provider client
    */
   @Bean
-  public FormValidationErrorDecoder formValidationDecoder(ObjectMapper objectMapper) {
-    return new FormValidationErrorDecoder(objectMapper);
+  public FormValidationErrorDecoder formValidationDecoder(ObjectMapper objectMapper,
+      ObjectProvider<FormValidationProperties> properties) {
+    var decoderProperties = propertiesOf(properties).getErrorDecoder();
+    return new FormValidationErrorDecoder(codecMapperOf(objectMapper, properties),
+        decoderProperties.getMaxBodySize().toBytes(), decoderProperties.isLazyDetails(),
+        decoderProperties.isLightweightExceptions());
+  }
+
+  /**
+   * Returns error decoder used by feign clients, that is {@code formValidationDecoder} decorated
+   * with {@link MeteredErrorDecoder} if metrics are enabled.
+   *
+   * @return primary error decoder
+   */
+  @Bean
+  @Primary
+  public ErrorDecoder meteredFormValidationDecoder(
+      FormValidationErrorDecoder formValidationDecoder,
+      ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var metrics = metricsOf(properties, meterRegistry);
+    return metrics == null ? formValidationDecoder
+        : new MeteredErrorDecoder(formValidationDecoder, metrics);
   }
 
   @Bean
@@ -41,4 +126,301 @@ public class FeignConfig {
   public ObjectMapper objectMapper() {
     return new ObjectMapper();
   }
+
+  /**
+   * Returns encoder and decoder {@link PreparedJacksonCodec} that replaces the default ones
+   * based on message converters, responses wrapped into {@code ResponseEntity} are decoded with
+   * message converters. The codec is prepared for the bodies of the clients configured with this
+   * class, as the feign contract describes them.
+   *
+   * @return prepared JSON encoder and decoder
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.codec", name = "prepared", havingValue = "true", matchIfMissing = true)
+  public PreparedJacksonCodec preparedJacksonCodec(ObjectMapper objectMapper,
+      ObjectFactory<HttpMessageConverters> messageConverters,
+      ObjectProvider<HttpMessageConverterCustomizer> customizers,
+      ObjectProvider<Contract> contract,
+      ObjectProvider<FormValidationProperties> properties) {
+    var codec = new PreparedJacksonCodec(codecMapperOf(objectMapper, properties),
+        MediaType.APPLICATION_JSON_VALUE, new OptionalDecoder(
+            new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))));
+    contract.ifAvailable(feignContract -> codec.prepare(feignContract, FormValidationClient.class)
+        .prepare(feignContract, FormSchemaClient.class));
+    return codec;
+  }
+
+  /**
+   * Returns pooled Apache HttpClient 5 with keep-alive and idle connections eviction.
+   *
+   * @return pooled http client
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "form-submission-validation.http-client", name = "type", havingValue = "pooled")
+  public CloseableHttpClient formValidationHttpClient(
+      ObjectProvider<FormValidationProperties> properties) {
+    var httpClientProperties = propertiesOf(properties).getHttpClient();
+    var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(httpClientProperties.getMaxConnections())
+        .setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
+        .build();
+    var keepAlive = TimeValue.ofMilliseconds(httpClientProperties.getKeepAlive().toMillis());
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setKeepAliveStrategy((response, context) -> keepAlive.min(
+            DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context)))
+        .evictExpiredConnections()
+        .evictIdleConnections(
+            TimeValue.ofMilliseconds(httpClientProperties.getIdleTimeout().toMillis()))
+        .disableCookieManagement()
+        .build();
+  }
+
+  /**
+   * Returns feign default {@code HttpURLConnection} transport, whose requests can be cancelled,
+   * unless another feign client is configured.
+   *
+   * @return feign client
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "form-submission-validation.http-client", name = "type", havingValue = "default", matchIfMissing = true)
+  public Client defaultFeignClient() {
+    return new UrlConnectionClient(null, null);
+  }
+
+  /**
+   * Returns feign default {@code HttpURLConnection} transport that writes form data request
+   * bodies straight to the connection with chunked transfer encoding, unless another feign
+   * client is configured. The client is also the capability that hands the bodies over from the
+   * encoder, it's declared before other capabilities to see bodies before binary wire format.
+   *
+   * @return streaming feign client
+   */
+  @Bean
+  @ConditionalOnMissingBean(Client.class)
+  @ConditionalOnProperty(prefix = "form-submission-validation.http-client", name = "type", havingValue = "streaming")
+  public StreamingClient streamingFeignClient(ObjectMapper objectMapper,
+      ObjectProvider<FormValidationProperties> properties) {
+    return new StreamingClient(null, null, codecMapperOf(objectMapper, properties),
+        propertiesOf(properties).getCompression().isEnabled());
+  }
+
+  /**
+   * Returns feign client on top of pooled Apache HttpClient 5.
+   *
+   * @return feign client
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.http-client", name = "type", havingValue = "pooled")
+  public Client pooledFeignClient(CloseableHttpClient formValidationHttpClient) {
+    return new ApacheHttp5Client(new CancellableHttpClient(formValidationHttpClient));
+  }
+
+  /**
+   * Returns feign client on top of JDK HttpClient with HTTP/2 multiplexing.
+   *
+   * @return feign client
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.http-client", name = "type", havingValue = "http2")
+  public Client http2FeignClient(ObjectProvider<FormValidationProperties> properties) {
+    return new JdkHttpClient(HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(propertiesOf(properties).getHttpClient().getConnectTimeout())
+        .build());
+  }
+
+  /**
+   * Returns capability that spreads requests to {@code form-submission-validation.url} over
+   * the instances listed in {@code form-submission-validation.load-balancer.endpoints} or
+   * resolved by {@code service-id}. It's declared next to the transport, so instance health is
+   * judged by raw responses.
+   *
+   * @return load balancing capability
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.load-balancer", name = "enabled", havingValue = "true")
+  public LoadBalancingCapability loadBalancingCapability(Environment environment,
+      ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<DiscoveryClient> discoveryClient,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var balancerProperties = propertiesOf(properties).getLoadBalancer();
+    var clientName = environment.getProperty(CLIENT_NAME_PROPERTY, "feign");
+    var loadBalancer = new LoadBalancer(clientName,
+        instancesOf(balancerProperties, discoveryClient.getIfAvailable()),
+        balancerProperties.getRefreshInterval(), balancerProperties.getWindowSize(),
+        balancerProperties.getMinRequests(), balancerProperties.getMaxFailureRate(),
+        balancerProperties.getLatencyThreshold(), balancerProperties.getEjectionTime(),
+        balancerProperties.getMaxEjectionPercent(), Clock.systemUTC(),
+        meterRegistry.getIfAvailable());
+    return new LoadBalancingCapability(environment.getRequiredProperty(URL_PROPERTY),
+        loadBalancer);
+  }
+
+  /**
+   * Returns capability that counts request and response bytes if metrics are enabled.
+   *
+   * @return metrics capability
+   */
+  @Bean
+  public MetricsCapability metricsCapability(ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new MetricsCapability(metricsOf(properties, meterRegistry));
+  }
+
+  /**
+   * Returns capability that gzips request bodies not smaller than
+   * {@code form-submission-validation.compression.min-request-size} and accepts gzipped
+   * responses.
+   *
+   * @return gzip compression capability
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.compression", name = "enabled", havingValue = "true")
+  public GzipCapability gzipCapability(ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var compressionProperties = propertiesOf(properties).getCompression();
+    return new GzipCapability(compressionProperties.getMinRequestSize().toBytes(),
+        compressionProperties.isAcceptCompressedResponse(), meterRegistry.getIfAvailable());
+  }
+
+  /**
+   * Returns capability that encodes request bodies in binary
+   * {@code form-submission-validation.wire-format.type} and falls back to JSON if the server
+   * doesn't support it. The capability is not registered for JSON.
+   *
+   * @return wire format capability
+   */
+  @Bean
+  @ConditionalOnExpression("!'${form-submission-validation.wire-format.type:json}'.equalsIgnoreCase('json')")
+  public WireFormatCapability wireFormatCapability(ObjectMapper objectMapper,
+      ObjectProvider<FormValidationProperties> properties) {
+    var wireFormatProperties = propertiesOf(properties).getWireFormat();
+    return new WireFormatCapability(wireFormatProperties.getType(),
+        codecMapperOf(objectMapper, properties), wireFormatProperties.getFallbackDuration());
+  }
+
+  /**
+   * Returns capability that applies the deadline of the caller to requests. It's declared
+   * before per-method timeouts capability to cut the timeouts that capability sets.
+   *
+   * @return deadline capability
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+  public DeadlineCapability deadlineCapability(
+      ObjectProvider<FormValidationProperties> properties) {
+    return new DeadlineCapability(propertiesOf(properties).getDeadline().getHeader());
+  }
+
+  /**
+   * Returns capability that applies per-method timeouts from
+   * {@code form-submission-validation.timeouts.<method>}.
+   *
+   * @return per-method timeouts capability
+   */
+  @Bean
+  public MethodOptionsCapability methodOptionsCapability(
+      ObjectProvider<FormValidationProperties> properties) {
+    return new MethodOptionsCapability(propertiesOf(properties).getTimeouts());
+  }
+
+  /**
+   * Returns capability that limits in-flight requests by adaptive concurrency limit and fails
+   * fast while the service returns server errors or times out, each feign client gets its own
+   * limiter and breaker. It's declared before retry capability, so every attempt takes its own
+   * permit and backoff delays are not counted as latency.
+   *
+   * @return resilience capability
+   */
+  @Bean
+  @ConditionalOnExpression("${form-submission-validation.concurrency-limiter.enabled:false} or ${form-submission-validation.circuit-breaker.enabled:false}")
+  public ResilienceCapability resilienceCapability(Environment environment,
+      ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var limiterProperties = propertiesOf(properties).getConcurrencyLimiter();
+    var breakerProperties = propertiesOf(properties).getCircuitBreaker();
+    ConcurrencyLimiter limiter = null;
+    if (limiterProperties.isEnabled()) {
+      limiter = new ConcurrencyLimiter(limitOf(limiterProperties));
+    }
+    CircuitBreaker circuitBreaker = null;
+    if (breakerProperties.isEnabled()) {
+      circuitBreaker = new CircuitBreaker(breakerProperties.getSlidingWindowSize(),
+          breakerProperties.getMinimumNumberOfCalls(), breakerProperties.getFailureRateThreshold(),
+          breakerProperties.getWaitDurationInOpenState(),
+          breakerProperties.getPermittedCallsInHalfOpenState(), Clock.systemUTC());
+    }
+    return new ResilienceCapability(environment.getProperty(CLIENT_NAME_PROPERTY, "feign"),
+        limiter, circuitBreaker, meterRegistry.getIfAvailable());
+  }
+
+  /**
+   * Returns capability that retries requests failed with IO errors, 429 or 5xx status with
+   * jittered backoff within the retry budget. It's declared after per-method timeouts and
+   * deadline capabilities to apply them to every attempt.
+   *
+   * @return retry capability
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "form-submission-validation.retry", name = "enabled", havingValue = "true")
+  public RetryCapability retryCapability(Environment environment,
+      ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var retryProperties = propertiesOf(properties).getRetry();
+    return new RetryCapability(environment.getProperty(CLIENT_NAME_PROPERTY, "feign"),
+        retryProperties.getMaxAttempts(), retryProperties.getInitialBackoff(),
+        retryProperties.getMaxBackoff(), retryProperties.getMultiplier(),
+        retryProperties.getBudget(), retryProperties.getMaxRetryAfter(),
+        meterRegistry.getIfAvailable());
+  }
+
+  private Supplier<List<URI>> instancesOf(LoadBalancerProperties properties,
+      DiscoveryClient discoveryClient) {
+    var serviceId = properties.getServiceId();
+    if (serviceId == null || serviceId.isEmpty()) {
+      if (properties.getEndpoints().isEmpty()) {
+        throw new IllegalStateException(
+            "Load balancer requires either endpoints or service-id to be set");
+      }
+      var endpoints = List.copyOf(properties.getEndpoints());
+      return () -> endpoints;
+    }
+    if (discoveryClient == null) {
+      throw new IllegalStateException(
+          "Load balancer requires DiscoveryClient to resolve service " + serviceId);
+    }
+    return () -> discoveryClient.getInstances(serviceId).stream()
+        .map(ServiceInstance::getUri)
+        .collect(Collectors.toList());
+  }
+
+  private AdaptiveLimit limitOf(ConcurrencyLimiterProperties properties) {
+    if (properties.getAlgorithm() == LimitAlgorithm.AIMD) {
+      return new AimdLimit(properties.getInitialLimit(), properties.getMinLimit(),
+          properties.getMaxLimit(), properties.getBackoffRatio(),
+          properties.getLatencyThreshold().toNanos());
+    }
+    return new VegasLimit(properties.getInitialLimit(), properties.getMinLimit(),
+        properties.getMaxLimit());
+  }
+
+  private ObjectMapper codecMapperOf(ObjectMapper objectMapper,
+      ObjectProvider<FormValidationProperties> properties) {
+    return propertiesOf(properties).getCodec().getAccessors().apply(objectMapper);
+  }
+
+  private FormValidationMetrics metricsOf(ObjectProvider<FormValidationProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var metricsProperties = propertiesOf(properties).getMetrics();
+    var registry = meterRegistry.getIfAvailable();
+    return metricsProperties.isEnabled() && registry != null
+        ? new FormValidationMetrics(registry, metricsProperties.getMaxFormKeys()) : null;
+  }
+
+  private FormValidationProperties propertiesOf(
+      ObjectProvider<FormValidationProperties> properties) {
+    return properties.getIfAvailable(FormValidationProperties::new);
+  }
 }
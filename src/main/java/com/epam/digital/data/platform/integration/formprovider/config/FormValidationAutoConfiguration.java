@@ -0,0 +1,293 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.config;
+
+import com.epam.digital.data.platform.integration.formprovider.cache.FieldNamesValidationCache;
+import com.epam.digital.data.platform.integration.formprovider.cache.FormDataSnapshotCache;
+import com.epam.digital.data.platform.integration.formprovider.client.CachingFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.CoalescingFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormSchemaClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationAsyncClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationHandler;
+import com.epam.digital.data.platform.integration.formprovider.client.HedgingFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.InProcessFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.IncrementalFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.MeteredFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.SchemaAwareFormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.codec.PreparedJacksonCodec;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.ClientBinding;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.HttpClientType;
+import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.metrics.FormValidationMetrics;
+import com.epam.digital.data.platform.integration.formprovider.metrics.MeteredErrorDecoder;
+import com.epam.digital.data.platform.integration.formprovider.schema.FormSchemaRepository;
+import com.epam.digital.data.platform.integration.formprovider.service.FormDataBatchValidationService;
+import com.epam.digital.data.platform.integration.formprovider.transport.BoundedAsyncClient;
+import com.epam.digital.data.platform.integration.formprovider.transport.DeadlineCapability;
+import com.epam.digital.data.platform.integration.formprovider.transport.JdkHttpClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.AsyncClient;
+import feign.AsyncFeign;
+import feign.Request;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * The class represents an auto-configuration of form validation client components.
+ */
+@Configuration
+@EnableConfigurationProperties(FormValidationProperties.class)
+public class FormValidationAutoConfiguration {
+
+  /**
+   * Returns primary {@link FormValidationClient} that decorates the feign client with enabled
+   * client-side features.
+   *
+   * @return form validation client
+   */
+  @Bean
+  @Primary
+  @ConditionalOnBean(name = FormValidationClient.FEIGN_CLIENT_QUALIFIER)
+  @ConditionalOnClientBinding(ClientBinding.REMOTE)
+  public FormValidationClient formValidationClient(
+      @Qualifier(FormValidationClient.FEIGN_CLIENT_QUALIFIER) FormValidationClient feignClient,
+      FormValidationProperties properties, ObjectProvider<ObjectMapper> objectMapperProvider,
+      ObjectProvider<FieldNamesValidationCache> fieldNamesValidationCache,
+      ObjectProvider<FormDataSnapshotCache> formDataSnapshotCache,
+      ObjectProvider<FormSchemaRepository> formSchemaRepository,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    FormValidationClient client = feignClient;
+    if (properties.getHedging().isEnabled()) {
+      client = new HedgingFormValidationClient(client, properties.getHedging(),
+          meterRegistry.getIfAvailable());
+    }
+    return decorate(client, properties, properties.getIncremental().isPartial(),
+        objectMapperProvider, fieldNamesValidationCache, formDataSnapshotCache,
+        formSchemaRepository, meterRegistry);
+  }
+
+  /**
+   * Returns primary {@link FormValidationClient} that calls {@link FormValidationHandler} bean
+   * in the same JVM, decorated with enabled client-side features except hedging. The handler
+   * bean is required, the context fails to start without it.
+   *
+   * @return in-process form validation client
+   */
+  @Bean
+  @Primary
+  @ConditionalOnClientBinding(ClientBinding.IN_PROCESS)
+  public FormValidationClient inProcessFormValidationClient(
+      ObjectProvider<FormValidationHandler> handler, FormValidationProperties properties,
+      ObjectProvider<ObjectMapper> objectMapperProvider,
+      ObjectProvider<FieldNamesValidationCache> fieldNamesValidationCache,
+      ObjectProvider<FormDataSnapshotCache> formDataSnapshotCache,
+      ObjectProvider<FormSchemaRepository> formSchemaRepository,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var formValidationHandler = handler.getIfAvailable();
+    if (formValidationHandler == null) {
+      throw new IllegalStateException(
+          "In-process binding requires a FormValidationHandler bean to be defined");
+    }
+    FormValidationClient client = new InProcessFormValidationClient(formValidationHandler,
+        objectMapperProvider.getIfAvailable(ObjectMapper::new),
+        properties.getInProcess().isCopy());
+    return decorate(client, properties, properties.getIncremental().isPartial(),
+        objectMapperProvider, fieldNamesValidationCache, formDataSnapshotCache,
+        formSchemaRepository, meterRegistry);
+  }
+
+  /**
+   * Returns cache of field names check results {@link FieldNamesValidationCache}
+   *
+   * @return field names check results cache
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "form-submission-validation.field-names-cache", name = "enabled", havingValue = "true")
+  public FieldNamesValidationCache fieldNamesValidationCache(FormValidationProperties properties) {
+    return new FieldNamesValidationCache(properties.getFieldNamesCache());
+  }
+
+  /**
+   * Returns cache of last validated form data snapshots {@link FormDataSnapshotCache}
+   *
+   * @return form data snapshots cache
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "form-submission-validation.incremental", name = "enabled", havingValue = "true")
+  public FormDataSnapshotCache formDataSnapshotCache(FormValidationProperties properties) {
+    return new FormDataSnapshotCache(properties.getIncremental());
+  }
+
+  /**
+   * Returns form definition repository {@link FormSchemaRepository}, requires
+   * {@link FormSchemaClient} to be enabled.
+   *
+   * @return repository of cached form definitions
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "form-submission-validation.form-schema-cache", name = "enabled", havingValue = "true")
+  public FormSchemaRepository formSchemaRepository(FormSchemaClient formSchemaClient,
+      FormValidationProperties properties, ObjectProvider<ObjectMapper> objectMapperProvider) {
+    return new FormSchemaRepository(formSchemaClient,
+        objectMapperProvider.getIfAvailable(ObjectMapper::new), properties.getFormSchemaCache());
+  }
+
+  /**
+   * Returns batch validation service {@link FormDataBatchValidationService}
+   *
+   * @return service for validation of many form data items
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnBean(FormValidationClient.class)
+  public FormDataBatchValidationService formDataBatchValidationService(
+      FormValidationClient formValidationClient, FormValidationProperties properties) {
+    return new FormDataBatchValidationService(formValidationClient, properties.getBatch());
+  }
+
+  /**
+   * Returns non-blocking form validation client {@link FormValidationAsyncClient} that runs on
+   * JDK {@link HttpClient} and limits the number of in-flight requests. The client is built
+   * apart from the feign client configuration, so only the error decoder, the codec and the
+   * deadline propagation are applied, capabilities of {@link FeignConfig} (metrics of body bytes,
+   * compression, binary wire format, load balancing, resilience and retries) are not.
+   *
+   * @return async form validation client
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "form-submission-validation.async", name = "enabled", havingValue = "true")
+  public FormValidationAsyncClient formValidationAsyncClient(FormValidationProperties properties,
+      ObjectProvider<ObjectMapper> objectMapperProvider,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+    var asyncProperties = properties.getAsync();
+    var objectMapper = objectMapperProvider.getIfAvailable(ObjectMapper::new);
+    var http2 = properties.getHttpClient().getType() == HttpClientType.HTTP2;
+    var httpClient = HttpClient.newBuilder()
+        .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .connectTimeout(asyncProperties.getConnectTimeout())
+        .build();
+    var messageConverters = new HttpMessageConverters(
+        new MappingJackson2HttpMessageConverter(objectMapper));
+    ObjectFactory<HttpMessageConverters> messageConvertersFactory = () -> messageConverters;
+    var codecMapper = properties.getCodec().getAccessors().apply(objectMapper);
+    ErrorDecoder errorDecoder = new FormValidationErrorDecoder(codecMapper,
+        properties.getErrorDecoder().getMaxBodySize().toBytes(),
+        properties.getErrorDecoder().isLazyDetails(),
+        properties.getErrorDecoder().isLightweightExceptions());
+    var metrics = metricsOf(properties, meterRegistry);
+    if (metrics != null) {
+      errorDecoder = new MeteredErrorDecoder(errorDecoder, metrics);
+    }
+    Encoder encoder = new SpringEncoder(messageConvertersFactory);
+    Decoder decoder = new ResponseEntityDecoder(
+        new SpringDecoder(messageConvertersFactory, customizers));
+    var contract = new SpringMvcContract();
+    if (properties.getCodec().isPrepared()) {
+      var codec = new PreparedJacksonCodec(codecMapper, MediaType.APPLICATION_JSON_VALUE,
+          decoder).prepare(contract, FormValidationAsyncClient.class);
+      encoder = codec;
+      decoder = codec;
+    }
+    AsyncClient<Object> asyncClient = new JdkHttpClient(httpClient);
+    if (properties.getDeadline().isEnabled()) {
+      asyncClient = new DeadlineCapability(properties.getDeadline().getHeader())
+          .enrich(asyncClient);
+    }
+    asyncClient = new BoundedAsyncClient<>(asyncClient, asyncProperties.getMaxInFlight(),
+        asyncProperties.getMaxQueued());
+    return AsyncFeign.<Object>asyncBuilder()
+        .client(asyncClient)
+        .contract(contract)
+        .encoder(encoder)
+        .decoder(decoder)
+        .errorDecoder(errorDecoder)
+        .options(new Request.Options(
+            asyncProperties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+            asyncProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, true))
+        .target(FormValidationAsyncClient.class, properties.getUrl());
+  }
+
+  private FormValidationClient decorate(FormValidationClient client,
+      FormValidationProperties properties, boolean partial,
+      ObjectProvider<ObjectMapper> objectMapperProvider,
+      ObjectProvider<FieldNamesValidationCache> fieldNamesValidationCache,
+      ObjectProvider<FormDataSnapshotCache> formDataSnapshotCache,
+      ObjectProvider<FormSchemaRepository> formSchemaRepository,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var cache = fieldNamesValidationCache.getIfAvailable();
+    if (cache != null) {
+      client = new CachingFormValidationClient(client, cache);
+    }
+    var schemaRepository = formSchemaRepository.getIfAvailable();
+    var schemaCacheProperties = properties.getFormSchemaCache();
+    if (schemaRepository != null && (schemaCacheProperties.isLocalFieldNamesCheck()
+        || schemaCacheProperties.isLocalFileCheck())) {
+      client = new SchemaAwareFormValidationClient(client, schemaRepository,
+          schemaCacheProperties.isLocalFieldNamesCheck(), schemaCacheProperties.isLocalFileCheck());
+    }
+    var snapshotCache = formDataSnapshotCache.getIfAvailable();
+    if (snapshotCache != null) {
+      client = new IncrementalFormValidationClient(client, snapshotCache,
+          objectMapperProvider.getIfAvailable(ObjectMapper::new), partial,
+          properties.getIncremental().getPartialProbeInterval());
+    }
+    if (properties.getCoalescing().isEnabled()) {
+      client = new CoalescingFormValidationClient(client,
+          objectMapperProvider.getIfAvailable(ObjectMapper::new), properties.getCoalescing());
+    }
+    var metrics = metricsOf(properties, meterRegistry);
+    if (metrics != null) {
+      client = new MeteredFormValidationClient(client, metrics);
+    }
+    return client;
+  }
+
+  private FormValidationMetrics metricsOf(FormValidationProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var registry = meterRegistry.getIfAvailable();
+    return properties.getMetrics().isEnabled() && registry != null
+        ? new FormValidationMetrics(registry, properties.getMetrics().getMaxFormKeys()) : null;
+  }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.config;
+
+import com.epam.digital.data.platform.integration.formprovider.codec.AccessorModule;
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormat;
+import com.epam.digital.data.platform.integration.formprovider.decoder.FormValidationErrorDecoder;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The class represents properties of form validation client.
+ */
+@Data
+@ConfigurationProperties(prefix = "form-submission-validation")
+public class FormValidationProperties {
+
+  private String url;
+  private ClientBinding binding = ClientBinding.REMOTE;
+  private InProcessProperties inProcess = new InProcessProperties();
+  private FormSchemaCacheProperties formSchemaCache = new FormSchemaCacheProperties();
+  private BatchProperties batch = new BatchProperties();
+  private AsyncProperties async = new AsyncProperties();
+  private FieldNamesCacheProperties fieldNamesCache = new FieldNamesCacheProperties();
+  private CoalescingProperties coalescing = new CoalescingProperties();
+  private ErrorDecoderProperties errorDecoder = new ErrorDecoderProperties();
+  private HttpClientProperties httpClient = new HttpClientProperties();
+  private Map<String, TimeoutProperties> timeouts = new HashMap<>();
+  private CompressionProperties compression = new CompressionProperties();
+  private MetricsProperties metrics = new MetricsProperties();
+  private WireFormatProperties wireFormat = new WireFormatProperties();
+  private CodecProperties codec = new CodecProperties();
+  private IncrementalProperties incremental = new IncrementalProperties();
+  private ConcurrencyLimiterProperties concurrencyLimiter = new ConcurrencyLimiterProperties();
+  private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+  private HedgingProperties hedging = new HedgingProperties();
+  private DeadlineProperties deadline = new DeadlineProperties();
+  private LoadBalancerProperties loadBalancer = new LoadBalancerProperties();
+  private RetryProperties retry = new RetryProperties();
+
+  /**
+   * Properties of form definition cache.
+   */
+  @Data
+  public static class FormSchemaCacheProperties {
+
+    private boolean enabled;
+    private long maximumSize = 1000;
+    private Duration expireAfterWrite = Duration.ofHours(1);
+    private Duration refreshAfterWrite = Duration.ofMinutes(5);
+    private int refreshThreads = 2;
+    private boolean localFieldNamesCheck = true;
+    private boolean localFileCheck;
+  }
+
+  /**
+   * Properties of batch form data validation.
+   */
+  @Data
+  public static class BatchProperties {
+
+    private int size = 100;
+    private int parallelism = 4;
+    private Duration probeInterval = Duration.ofMinutes(5);
+
+    public void setSize(int size) {
+      if (size <= 0) {
+        throw new IllegalArgumentException("Batch size must be positive, but was " + size);
+      }
+      this.size = size;
+    }
+
+    public void setParallelism(int parallelism) {
+      if (parallelism <= 0) {
+        throw new IllegalArgumentException(
+            "Batch parallelism must be positive, but was " + parallelism);
+      }
+      this.parallelism = parallelism;
+    }
+  }
+
+  /**
+   * Properties of non-blocking form validation client.
+   */
+  @Data
+  public static class AsyncProperties {
+
+    private boolean enabled;
+    private int maxInFlight = 256;
+    private int maxQueued = 10000;
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(60);
+  }
+
+  /**
+   * Properties of field names check results cache.
+   */
+  @Data
+  public static class FieldNamesCacheProperties {
+
+    private boolean enabled;
+    private long maximumSize = 10000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+  }
+
+  /**
+   * Properties of coalescing of identical form data validation calls.
+   */
+  @Data
+  public static class CoalescingProperties {
+
+    private boolean enabled;
+    private Duration reuseWindow = Duration.ZERO;
+    private long maximumSize = 10000;
+  }
+
+  /**
+   * Properties of validation error decoding.
+   */
+  @Data
+  public static class ErrorDecoderProperties {
+
+    private DataSize maxBodySize = DataSize.ofBytes(
+        FormValidationErrorDecoder.DEFAULT_MAX_BODY_SIZE);
+    private boolean lazyDetails;
+    private boolean lightweightExceptions;
+  }
+
+  /**
+   * Properties of HTTP transport of feign clients.
+   */
+  @Data
+  public static class HttpClientProperties {
+
+    private HttpClientType type = HttpClientType.DEFAULT;
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 50;
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private Duration keepAlive = Duration.ofMinutes(1);
+    private Duration connectTimeout = Duration.ofSeconds(10);
+  }
+
+  /**
+   * Properties of gzip compression of request and response bodies.
+   */
+  @Data
+  public static class CompressionProperties {
+
+    private boolean enabled;
+    private DataSize minRequestSize = DataSize.ofKilobytes(2);
+    private boolean acceptCompressedResponse = true;
+  }
+
+  /**
+   * Properties of client metrics, that are recorded if {@code MeterRegistry} is available.
+   */
+  @Data
+  public static class MetricsProperties {
+
+    private boolean enabled = true;
+    private int maxFormKeys = 100;
+  }
+
+  /**
+   * Properties of wire format of validation calls bodies.
+   */
+  @Data
+  public static class WireFormatProperties {
+
+    private WireFormat type = WireFormat.JSON;
+    private Duration fallbackDuration = Duration.ofMinutes(10);
+  }
+
+  /**
+   * Properties of request and response bodies (de)serialization.
+   */
+  @Data
+  public static class CodecProperties {
+
+    private boolean prepared = true;
+    private AccessorModule accessors = AccessorModule.NONE;
+  }
+
+  /**
+   * Properties of incremental form data validation.
+   */
+  @Data
+  public static class IncrementalProperties {
+
+    private boolean enabled;
+    private boolean partial;
+    private Duration partialProbeInterval = Duration.ofMinutes(5);
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+  }
+
+  /**
+   * Adaptive concurrency limiter properties.
+   */
+  @Data
+  public static class ConcurrencyLimiterProperties {
+
+    private boolean enabled;
+    private LimitAlgorithm algorithm = LimitAlgorithm.VEGAS;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private double backoffRatio = 0.9;
+    private Duration latencyThreshold = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Circuit breaker properties.
+   */
+  @Data
+  public static class CircuitBreakerProperties {
+
+    private boolean enabled;
+    private int slidingWindowSize = 100;
+    private int minimumNumberOfCalls = 20;
+    private int failureRateThreshold = 50;
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 5;
+  }
+
+  /**
+   * Hedged requests properties.
+   */
+  @Data
+  public static class HedgingProperties {
+
+    private boolean enabled;
+    private double percentile = 0.95;
+    private double budget = 0.05;
+    private Duration minDelay = Duration.ofMillis(10);
+    private int sampleSize = 1000;
+    private int minSamples = 100;
+    private int maxThreads = 64;
+  }
+
+  /**
+   * Deadline propagation properties, an empty {@code header} disables sending of the remaining
+   * time budget to the server.
+   */
+  @Data
+  public static class DeadlineProperties {
+
+    private boolean enabled = true;
+    private String header = "X-Request-Timeout";
+  }
+
+  /**
+   * Client-side load balancing properties, instances are either listed in {@code endpoints} or
+   * resolved by {@code service-id} with Spring Cloud {@code DiscoveryClient}.
+   */
+  @Data
+  public static class LoadBalancerProperties {
+
+    private boolean enabled;
+    private List<URI> endpoints = new ArrayList<>();
+    private String serviceId;
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private int windowSize = 50;
+    private int minRequests = 10;
+    private double maxFailureRate = 0.5;
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+    private Duration ejectionTime = Duration.ofSeconds(30);
+    private int maxEjectionPercent = 50;
+  }
+
+  /**
+   * Retry properties, {@code budget} is a share of requests that may be retried.
+   */
+  @Data
+  public static class RetryProperties {
+
+    private boolean enabled;
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(2);
+    private double multiplier = 2;
+    private double budget = 0.1;
+    private Duration maxRetryAfter = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Properties of in-process binding, {@code copy} can be disabled for a handler that neither
+   * keeps nor changes the data it's given.
+   */
+  @Data
+  public static class InProcessProperties {
+
+    private boolean copy = true;
+  }
+
+  /**
+   * Binding of the primary {@link com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient}.
+   */
+  public enum ClientBinding {
+    /**
+     * Validation service is called by the feign client.
+     */
+    REMOTE,
+    /**
+     * {@link com.epam.digital.data.platform.integration.formprovider.client.FormValidationHandler}
+     * bean is called in the same JVM.
+     */
+    IN_PROCESS
+  }
+
+  /**
+   * Algorithm of adaptive concurrency limit.
+   */
+  public enum LimitAlgorithm {
+    /**
+     * Additive increase, multiplicative decrease on drops or latency above
+     * {@code latency-threshold}.
+     */
+    AIMD,
+    /**
+     * TCP Vegas, the limit follows the estimated queue size by latency growth.
+     */
+    VEGAS
+  }
+
+  /**
+   * Type of HTTP transport of feign clients.
+   */
+  public enum HttpClientType {
+    /**
+     * Feign default {@link java.net.HttpURLConnection} transport.
+     */
+    DEFAULT,
+    /**
+     * Apache HttpClient 5 with connection pool.
+     */
+    POOLED,
+    /**
+     * JDK {@link java.net.http.HttpClient} with HTTP/2 multiplexing.
+     */
+    HTTP2,
+    /**
+     * Feign default {@link java.net.HttpURLConnection} transport that streams form data request
+     * bodies with chunked transfer encoding.
+     */
+    STREAMING
+  }
+
+  /**
+   * Connect and read timeouts of a client method, not set values are taken from the client
+   * configuration.
+   */
+  @Data
+  public static class TimeoutProperties {
+
+    private Duration connectTimeout;
+    private Duration readTimeout;
+  }
+}
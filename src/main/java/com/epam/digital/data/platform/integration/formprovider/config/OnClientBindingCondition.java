@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.config;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.ClientBinding;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * The class represents {@link ConditionalOnClientBinding} condition, the property is bound with
+ * {@link Binder} the same way as {@link FormValidationProperties}, so an absent property means
+ * {@link ClientBinding#REMOTE}.
+ */
+class OnClientBindingCondition extends SpringBootCondition {
+
+  private static final String PROPERTY = "form-submission-validation.binding";
+
+  @Override
+  public ConditionOutcome getMatchOutcome(ConditionContext context,
+      AnnotatedTypeMetadata metadata) {
+    var attributes = metadata.getAnnotationAttributes(ConditionalOnClientBinding.class.getName());
+    var expected = (ClientBinding) attributes.get("value");
+    var actual = Binder.get(context.getEnvironment())
+        .bind(PROPERTY, ClientBinding.class)
+        .orElse(ClientBinding.REMOTE);
+    return actual == expected
+        ? ConditionOutcome.match(PROPERTY + " is " + actual)
+        : ConditionOutcome.noMatch(PROPERTY + " is " + actual + ", not " + expected);
+  }
+}
@@ -16,38 +16,179 @@
 
 package com.epam.digital.data.platform.integration.formprovider.decoder;
 
+import com.epam.digital.data.platform.integration.formprovider.codec.WireFormat;
 import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import feign.Response;
-import feign.Util;
+import feign.codec.DecodeException;
 import feign.codec.ErrorDecoder;
-import lombok.SneakyThrows;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * The class represents an implementation of {@link ErrorDecoder} error decoder for feign client,
  * that is used to raise exception based on status.
+ * <p>
+ * Validation error body is parsed straight from the response stream and is limited by
+ * {@code maxBodySize}, a larger body is reported as truncated. In {@code lazyDetails} mode only
+ * top-level fields are parsed, {@code details} are parsed on the first access. A truncated or
+ * empty body is reported with {@code VALIDATION_ERROR} code and empty {@code details}.
+ * <p>
+ * Body is parsed according to its {@code Content-Type} as JSON or as one of binary
+ * {@link WireFormat}s, {@code lazyDetails} mode applies only to JSON.
+ * <p>
+ * In {@code lightweightExceptions} mode exceptions are created without a stack trace, the body
+ * is only read into memory and parsed on the first call of
+ * {@link SubmissionValidationException#getErrors()}. A body that can not be parsed then is
+ * reported with {@code VALIDATION_ERROR} code, empty {@code details} and the parse failure as
+ * {@code message}.
  */
+@Slf4j
 public class FormValidationErrorDecoder implements ErrorDecoder {
 
-  private final ObjectMapper objectMapper;
+  public static final long DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+  private static final int UNPROCESSABLE_ENTITY = 422;
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String VALIDATION_ERROR_CODE = "VALIDATION_ERROR";
+
+  private final JsonFactory jsonFactory;
+  private final Map<WireFormat, ObjectReader> errorReaders = new EnumMap<>(WireFormat.class);
+  private final ObjectReader detailsReader;
   private final ErrorDecoder errorDecoder;
+  private final long maxBodySize;
+  private final boolean lazyDetails;
+  private final boolean lightweightExceptions;
 
   public FormValidationErrorDecoder(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
+    this(objectMapper, DEFAULT_MAX_BODY_SIZE, false);
+  }
+
+  public FormValidationErrorDecoder(ObjectMapper objectMapper, long maxBodySize,
+      boolean lazyDetails) {
+    this(objectMapper, maxBodySize, lazyDetails, false);
+  }
+
+  public FormValidationErrorDecoder(ObjectMapper objectMapper, long maxBodySize,
+      boolean lazyDetails, boolean lightweightExceptions) {
+    this.jsonFactory = objectMapper.getFactory();
+    for (var format : WireFormat.values()) {
+      errorReaders.put(format, format.mapper(objectMapper).readerFor(ValidationErrorDto.class));
+    }
+    this.detailsReader = objectMapper.readerFor(ErrorsListDto.class);
     this.errorDecoder = new Default();
+    this.maxBodySize = maxBodySize;
+    this.lazyDetails = lazyDetails;
+    this.lightweightExceptions = lightweightExceptions;
   }
 
-  @SneakyThrows
   @Override
   public Exception decode(String methodKey, Response response) {
-    if (response.status() == 422) {
-      return new SubmissionValidationException(
-          objectMapper.readValue(
-              Util.toByteArray(response.body().asInputStream()),
-              objectMapper.constructType(ValidationErrorDto.class)
-          ));
+    if (response.status() != UNPROCESSABLE_ENTITY) {
+      return errorDecoder.decode(methodKey, response);
+    }
+    if (response.body() == null) {
+      return new SubmissionValidationException(emptyError(null), !lightweightExceptions);
+    }
+    var length = response.body().length();
+    if (length != null && length > maxBodySize) {
+      return truncated(methodKey, length);
+    }
+    var format = WireFormat.of(response.headers().get(CONTENT_TYPE));
+    try (var body = new SizeLimitedInputStream(response.body().asInputStream(), maxBodySize)) {
+      try {
+        var lazy = lazyDetails && !format.isBinary();
+        if (lightweightExceptions) {
+          return new LazySubmissionValidationException(body.readAllBytes(),
+              bytes -> readLightweight(methodKey, format, lazy, bytes));
+        }
+        return new SubmissionValidationException(lazy
+            ? readLazily(body.readAllBytes()) : read(format, body));
+      } catch (IOException ex) {
+        if (body.isLimitExceeded()) {
+          return truncated(methodKey, null);
+        }
+        throw ex;
+      }
+    } catch (IOException ex) {
+      return new DecodeException(response.status(),
+          "Failed to decode validation error response: " + ex.getMessage(), response.request(),
+          ex);
+    }
+  }
+
+  private ValidationErrorDto read(WireFormat format, InputStream body) throws IOException {
+    return errorReaders.get(format).readValue(body);
+  }
+
+  private ValidationErrorDto readLightweight(String methodKey, WireFormat format, boolean lazy,
+      byte[] bytes) {
+    try {
+      return lazy ? readLazily(bytes) : errorReaders.get(format).readValue(bytes);
+    } catch (IOException ex) {
+      log.warn("Failed to decode validation error response of {}", methodKey, ex);
+      return emptyError("Failed to decode validation error response: " + ex.getMessage());
     }
-    return errorDecoder.decode(methodKey, response);
+  }
+
+  private ValidationErrorDto readLazily(byte[] bytes) throws IOException {
+    var error = new LazyValidationErrorDto(detailsReader);
+    try (var parser = jsonFactory.createParser(bytes)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Validation error response is not an object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var field = parser.getCurrentName();
+        var token = parser.nextToken();
+        switch (field) {
+          case "traceId":
+            error.setTraceId(parser.getValueAsString());
+            break;
+          case "code":
+            error.setCode(parser.getValueAsString());
+            break;
+          case "message":
+            error.setMessage(parser.getValueAsString());
+            break;
+          case "details":
+            if (token != JsonToken.VALUE_NULL) {
+              var offset = (int) parser.getTokenLocation().getByteOffset();
+              parser.skipChildren();
+              var end = (int) parser.getCurrentLocation().getByteOffset();
+              error.setDetailsRange(bytes, offset, end - offset);
+            }
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+    }
+    return error;
+  }
+
+  private SubmissionValidationException truncated(String methodKey, Integer length) {
+    log.warn("Validation error response of {} exceeds {} bytes, length {}", methodKey,
+        maxBodySize, length);
+    return new SubmissionValidationException(
+        emptyError("Validation error response exceeds " + maxBodySize + " bytes"),
+        !lightweightExceptions);
+  }
+
+  private static ValidationErrorDto emptyError(String message) {
+    return ValidationErrorDto.builder()
+        .code(VALIDATION_ERROR_CODE)
+        .message(message)
+        .details(ErrorsListDto.builder().errors(List.of()).build())
+        .build();
   }
 }
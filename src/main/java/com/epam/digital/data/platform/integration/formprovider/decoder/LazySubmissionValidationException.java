@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.decoder;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+
+/**
+ * The class represents a {@link SubmissionValidationException} without a stack trace, which
+ * keeps the raw response body and parses it to {@link ValidationErrorDto} on the first call of
+ * {@link #getErrors()}. The body is parsed before the exception is serialized, so the parsed
+ * errors are written the same way as for an eagerly parsed exception.
+ */
+class LazySubmissionValidationException extends SubmissionValidationException {
+
+  private transient BodyParser parser;
+  private transient byte[] body;
+  private transient ValidationErrorDto errors;
+
+  LazySubmissionValidationException(byte[] body, BodyParser parser) {
+    super(null, false);
+    this.body = body;
+    this.parser = parser;
+  }
+
+  @Override
+  public synchronized ValidationErrorDto getErrors() {
+    if (body != null) {
+      errors = parser.parse(body);
+      body = null;
+      parser = null;
+    }
+    return errors != null ? errors : super.getErrors();
+  }
+
+  /**
+   * Returns a copy that shares the raw body if it is not parsed yet, so the copy is parsed on
+   * demand too.
+   */
+  @Override
+  public synchronized SubmissionValidationException copy() {
+    return body != null ? new LazySubmissionValidationException(body, parser) : super.copy();
+  }
+
+  /**
+   * Parser of raw validation error response body, a body that can not be parsed is expected to
+   * be reported by the returned {@link ValidationErrorDto} itself.
+   */
+  @FunctionalInterface
+  interface BodyParser {
+
+    ValidationErrorDto parse(byte[] body);
+  }
+}
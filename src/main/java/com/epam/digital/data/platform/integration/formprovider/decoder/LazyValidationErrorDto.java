@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.decoder;
+
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The class represents a {@link ValidationErrorDto} which {@code details} are kept as a range of
+ * the raw response body and parsed on the first access.
+ */
+class LazyValidationErrorDto extends ValidationErrorDto {
+
+  private final ObjectReader detailsReader;
+  private byte[] body;
+  private int detailsOffset;
+  private int detailsLength;
+
+  LazyValidationErrorDto(ObjectReader detailsReader) {
+    this.detailsReader = detailsReader;
+  }
+
+  void setDetailsRange(byte[] body, int offset, int length) {
+    this.body = body;
+    this.detailsOffset = offset;
+    this.detailsLength = length;
+  }
+
+  @Override
+  public synchronized ErrorsListDto getDetails() {
+    if (body != null) {
+      try {
+        super.setDetails(detailsReader.readValue(body, detailsOffset, detailsLength));
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      body = null;
+    }
+    return super.getDetails();
+  }
+
+  @Override
+  public synchronized void setDetails(ErrorsListDto details) {
+    body = null;
+    super.setDetails(details);
+  }
+}
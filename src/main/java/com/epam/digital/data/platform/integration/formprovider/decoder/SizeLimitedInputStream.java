@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.decoder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The class represents an input stream that fails with {@link IOException} as soon as more than
+ * {@code maxSize} bytes are read from it.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+  private final long maxSize;
+  private long count;
+  private boolean limitExceeded;
+
+  SizeLimitedInputStream(InputStream in, long maxSize) {
+    super(in);
+    this.maxSize = maxSize;
+  }
+
+  boolean isLimitExceeded() {
+    return limitExceeded;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var result = super.read();
+    if (result != -1) {
+      count(1);
+    }
+    return result;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    var result = super.read(b, off, len);
+    if (result > 0) {
+      count(result);
+    }
+    return result;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    var result = super.skip(n);
+    count(result);
+    return result;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  private void count(long read) throws IOException {
+    count += read;
+    if (count > maxSize) {
+      limitExceeded = true;
+      throw new IOException("Response body exceeds " + maxSize + " bytes");
+    }
+  }
+}
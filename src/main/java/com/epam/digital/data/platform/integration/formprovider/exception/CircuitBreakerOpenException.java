@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The class represents an exception that is thrown without calling the service while the circuit
+ * breaker is open because of a high rate of server errors and timeouts.
+ */
+public class CircuitBreakerOpenException extends RejectedExecutionException {
+
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+}
@@ -16,17 +16,120 @@
 
 package com.epam.digital.data.platform.integration.formprovider.exception;
 
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorDetailDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ErrorsListDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.stream.Collectors;
 
 /**
  * The class represents an exception which will be thrown in case the form data didn't pass
  * validation.
+ * <p>
+ * An exception created with {@code writableStackTrace} disabled does not capture a stack trace,
+ * that makes it cheap to create when validation errors are frequent.
+ * <p>
+ * Errors are mutable, an exception handed to more than one caller should be {@link #copy()
+ * copied} for each of them.
+ * <p>
+ * Errors are serialized field by field, so the exception can be serialized even though
+ * {@link ValidationErrorDto} is not serializable itself.
  */
-@Getter
-@RequiredArgsConstructor
 public class SubmissionValidationException extends RuntimeException {
 
-  private final ValidationErrorDto errors;
+  private transient ValidationErrorDto errors;
+  private final boolean writableStackTrace;
+
+  public SubmissionValidationException(ValidationErrorDto errors) {
+    this(errors, true);
+  }
+
+  public SubmissionValidationException(ValidationErrorDto errors, boolean writableStackTrace) {
+    super(null, null, true, writableStackTrace);
+    this.errors = errors;
+    this.writableStackTrace = writableStackTrace;
+  }
+
+  public ValidationErrorDto getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns an exception with a deep copy of the errors, that captures a stack trace only if
+   * this one does.
+   *
+   * @return copy of the exception
+   */
+  public SubmissionValidationException copy() {
+    return new SubmissionValidationException(copyOf(getErrors()), writableStackTrace);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    var errors = getErrors();
+    out.writeBoolean(errors != null);
+    if (errors == null) {
+      return;
+    }
+    out.writeObject(errors.getTraceId());
+    out.writeObject(errors.getCode());
+    out.writeObject(errors.getMessage());
+    var details = errors.getDetails() == null ? null : errors.getDetails().getErrors();
+    out.writeInt(errors.getDetails() == null ? -2 : details == null ? -1 : details.size());
+    if (details != null) {
+      for (var detail : details) {
+        out.writeBoolean(detail != null);
+        if (detail != null) {
+          out.writeObject(detail.getMessage());
+          out.writeObject(detail.getField());
+          out.writeObject(detail.getValue());
+        }
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (!in.readBoolean()) {
+      return;
+    }
+    var builder = ValidationErrorDto.builder()
+        .traceId((String) in.readObject())
+        .code((String) in.readObject())
+        .message((String) in.readObject());
+    var size = in.readInt();
+    if (size >= -1) {
+      var details = size < 0 ? null : new ArrayList<ErrorDetailDto>(size);
+      for (var i = 0; i < size; i++) {
+        details.add(in.readBoolean() ? new ErrorDetailDto((String) in.readObject(),
+            (String) in.readObject(), (String) in.readObject()) : null);
+      }
+      builder.details(new ErrorsListDto(details));
+    }
+    errors = builder.build();
+  }
+
+  private static ValidationErrorDto copyOf(ValidationErrorDto errors) {
+    if (errors == null) {
+      return null;
+    }
+    var details = errors.getDetails();
+    return ValidationErrorDto.builder()
+        .traceId(errors.getTraceId())
+        .code(errors.getCode())
+        .message(errors.getMessage())
+        .details(details == null ? null : new ErrorsListDto(details.getErrors() == null ? null
+            : details.getErrors().stream()
+                .map(SubmissionValidationException::copyOf)
+                .collect(Collectors.toList())))
+        .build();
+  }
+
+  private static ErrorDetailDto copyOf(ErrorDetailDto detail) {
+    return detail == null ? null
+        : new ErrorDetailDto(detail.getMessage(), detail.getField(), detail.getValue());
+  }
 }
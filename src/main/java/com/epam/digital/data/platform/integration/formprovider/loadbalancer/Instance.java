@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.loadbalancer;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class represents an instance of the validation service with its outstanding requests and
+ * passive health statistics.
+ * <p>
+ * Outcomes of the last {@code windowSize} requests and exponentially weighted moving average of
+ * their latency are kept. When at least {@code minRequests} outcomes are recorded and either the
+ * rate of failures reaches {@code maxFailureRate} or the average latency exceeds
+ * {@code latencyThreshold}, the instance asks to be ejected, its statistics start over after
+ * ejection.
+ */
+public class Instance {
+
+  private static final double LATENCY_WEIGHT = 0.2;
+
+  private final URI uri;
+  private final boolean[] window;
+  private final int minRequests;
+  private final double maxFailureRate;
+  private final long latencyThresholdNanos;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder ejections = new LongAdder();
+
+  private volatile long ejectedUntil;
+  private volatile boolean ejected;
+  private int index;
+  private int calls;
+  private int failures;
+  private double latencyNanos;
+
+  Instance(URI uri, int windowSize, int minRequests, double maxFailureRate,
+      long latencyThresholdNanos) {
+    this.uri = uri;
+    this.window = new boolean[windowSize];
+    this.minRequests = Math.min(minRequests, windowSize);
+    this.maxFailureRate = maxFailureRate;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+  }
+
+  public URI getUri() {
+    return uri;
+  }
+
+  public int getOutstanding() {
+    return outstanding.get();
+  }
+
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  public long getEjections() {
+    return ejections.sum();
+  }
+
+  public synchronized double getLatencyNanos() {
+    return latencyNanos;
+  }
+
+  public boolean isEjected() {
+    return ejected;
+  }
+
+  void onStart() {
+    outstanding.incrementAndGet();
+    requests.increment();
+  }
+
+  /**
+   * Record the outcome of a request.
+   *
+   * @return {@code true} if the instance is unhealthy and should be ejected
+   */
+  synchronized boolean onComplete(long latency, boolean failure) {
+    outstanding.decrementAndGet();
+    if (failure) {
+      failed.increment();
+    }
+    if (ejected) {
+      return false;
+    }
+    if (window[index] && calls == window.length) {
+      failures--;
+    }
+    window[index] = failure;
+    index = (index + 1) % window.length;
+    calls = Math.min(calls + 1, window.length);
+    if (failure) {
+      failures++;
+    }
+    latencyNanos = calls == 1 ? latency
+        : LATENCY_WEIGHT * latency + (1 - LATENCY_WEIGHT) * latencyNanos;
+    return calls >= minRequests
+        && (failures >= maxFailureRate * calls || latencyNanos > latencyThresholdNanos);
+  }
+
+  /**
+   * Record a request that is neither a success nor a failure.
+   */
+  void onIgnore() {
+    outstanding.decrementAndGet();
+  }
+
+  synchronized boolean eject(long until) {
+    if (ejected) {
+      return false;
+    }
+    ejected = true;
+    ejectedUntil = until;
+    ejections.increment();
+    index = 0;
+    calls = 0;
+    failures = 0;
+    latencyNanos = 0;
+    return true;
+  }
+
+  boolean isAvailable(long now) {
+    if (ejected && now - ejectedUntil >= 0) {
+      ejected = false;
+    }
+    return !ejected;
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.loadbalancer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The class represents a client-side load balancer that picks the {@link Instance} with the
+ * least outstanding requests, ties are broken randomly.
+ * <p>
+ * Instances are passively health checked by the outcomes of real requests, an unhealthy one is
+ * ejected for {@code ejectionTime}. No more than {@code maxEjectionPercent} of instances are
+ * ejected at once, and if all of them are ejected, the least loaded one is picked anyway.
+ * <p>
+ * The list of instances is taken from {@code instanceSupplier} not more often than
+ * {@code refreshInterval}, or every second while it's empty, statistics of an instance are kept
+ * while it's listed, an instance that is no longer listed is forgotten. If {@link MeterRegistry}
+ * is given, every listed instance is exposed by {@code form.validation.client.instance.*} meters
+ * tagged with client name and instance URI, meters of a forgotten instance are removed.
+ */
+@Slf4j
+public class LoadBalancer {
+
+  private static final long EMPTY_REFRESH_INTERVAL = 1000;
+
+  private final String clientName;
+  private final Supplier<List<URI>> instanceSupplier;
+  private final long refreshInterval;
+  private final int windowSize;
+  private final int minRequests;
+  private final double maxFailureRate;
+  private final long latencyThreshold;
+  private final long ejectionTime;
+  private final int maxEjectionPercent;
+  private final Clock clock;
+  private final MeterRegistry meterRegistry;
+  private final Map<URI, Instance> known = new ConcurrentHashMap<>();
+  private final Map<URI, List<Meter>> meters = new ConcurrentHashMap<>();
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private volatile List<Instance> instances = List.of();
+  private volatile long refreshedAt;
+  private volatile boolean refreshed;
+
+  public LoadBalancer(String clientName, Supplier<List<URI>> instanceSupplier,
+      Duration refreshInterval, int windowSize, int minRequests, double maxFailureRate,
+      Duration latencyThreshold, Duration ejectionTime, int maxEjectionPercent, Clock clock,
+      MeterRegistry meterRegistry) {
+    this.clientName = clientName;
+    this.instanceSupplier = instanceSupplier;
+    this.refreshInterval = refreshInterval.toMillis();
+    this.windowSize = windowSize;
+    this.minRequests = minRequests;
+    this.maxFailureRate = maxFailureRate;
+    this.latencyThreshold = latencyThreshold.toNanos();
+    this.ejectionTime = ejectionTime.toMillis();
+    this.maxEjectionPercent = maxEjectionPercent;
+    this.clock = clock;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Pick an instance for a request, its outcome must be recorded then.
+   *
+   * @return instance or {@code null} if no instance is known
+   */
+  public Instance choose() {
+    refreshIfStale();
+    var current = instances;
+    if (current.isEmpty()) {
+      return null;
+    }
+    var now = clock.millis();
+    var start = ThreadLocalRandom.current().nextInt(current.size());
+    Instance chosen = null;
+    Instance fallback = null;
+    for (var i = 0; i < current.size(); i++) {
+      var instance = current.get((start + i) % current.size());
+      if (fallback == null || instance.getOutstanding() < fallback.getOutstanding()) {
+        fallback = instance;
+      }
+      if (instance.isAvailable(now)
+          && (chosen == null || instance.getOutstanding() < chosen.getOutstanding())) {
+        chosen = instance;
+      }
+    }
+    chosen = chosen == null ? fallback : chosen;
+    chosen.onStart();
+    return chosen;
+  }
+
+  public void onSuccess(Instance instance, long latencyNanos) {
+    onComplete(instance, latencyNanos, false);
+  }
+
+  public void onFailure(Instance instance, long latencyNanos) {
+    onComplete(instance, latencyNanos, true);
+  }
+
+  /**
+   * Record a request that is neither a success nor a failure, e.g. rejected before sending.
+   */
+  public void onIgnore(Instance instance) {
+    instance.onIgnore();
+  }
+
+  public List<Instance> getInstances() {
+    return instances;
+  }
+
+  private void onComplete(Instance instance, long latencyNanos, boolean failure) {
+    if (instance.onComplete(latencyNanos, failure) && canEject()
+        && instance.eject(clock.millis() + ejectionTime)) {
+      log.warn("Instance {} of {} is ejected for {} ms, last latency {} ms", instance.getUri(),
+          clientName, ejectionTime, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+    }
+  }
+
+  private boolean canEject() {
+    var current = instances;
+    var ejected = current.stream().filter(Instance::isEjected).count();
+    return (ejected + 1) * 100 <= (long) maxEjectionPercent * current.size();
+  }
+
+  private void refreshIfStale() {
+    var now = clock.millis();
+    var interval = instances.isEmpty()
+        ? Math.min(refreshInterval, EMPTY_REFRESH_INTERVAL) : refreshInterval;
+    if (refreshed && now - refreshedAt < interval || !refreshLock.tryLock()) {
+      return;
+    }
+    try {
+      var uris = instanceSupplier.get();
+      var listedInstances = new ArrayList<Instance>(uris.size());
+      for (var uri : uris) {
+        listedInstances.add(known.computeIfAbsent(uri, this::register));
+      }
+      instances = List.copyOf(listedInstances);
+      var listed = new HashSet<>(uris);
+      for (var uri : List.copyOf(known.keySet())) {
+        if (!listed.contains(uri)) {
+          forget(uri);
+        }
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Failed to refresh instances of {}, {} known instances are used", clientName,
+          instances.size(), ex);
+    } finally {
+      refreshedAt = now;
+      refreshed = true;
+      refreshLock.unlock();
+    }
+  }
+
+  private void forget(URI uri) {
+    log.info("Instance {} of {} is no longer listed", uri, clientName);
+    known.remove(uri);
+    var registered = meters.remove(uri);
+    if (registered != null) {
+      registered.forEach(meterRegistry::remove);
+    }
+  }
+
+  private Instance register(URI uri) {
+    var instance = new Instance(uri, windowSize, minRequests, maxFailureRate, latencyThreshold);
+    if (meterRegistry != null) {
+      meters.put(uri, registerMeters(instance,
+          Tags.of("client", clientName, "instance", uri.toString())));
+    }
+    return instance;
+  }
+
+  private List<Meter> registerMeters(Instance instance, Tags tags) {
+    return List.of(
+        Gauge.builder("form.validation.client.instance.outstanding", instance,
+                Instance::getOutstanding)
+            .description("Number of outstanding requests to the instance")
+            .tags(tags)
+            .register(meterRegistry),
+        Gauge.builder("form.validation.client.instance.ejected", instance,
+                value -> value.isEjected() ? 1 : 0)
+            .description("Whether the instance is ejected by passive health check")
+            .tags(tags)
+            .register(meterRegistry),
+        Gauge.builder("form.validation.client.instance.latency", instance,
+                value -> value.getLatencyNanos() / TimeUnit.SECONDS.toNanos(1))
+            .description("Moving average of the instance latency")
+            .baseUnit("seconds")
+            .tags(tags)
+            .register(meterRegistry),
+        FunctionCounter.builder("form.validation.client.instance.requests", instance,
+                Instance::getRequests)
+            .description("Requests sent to the instance")
+            .tags(tags)
+            .register(meterRegistry),
+        FunctionCounter.builder("form.validation.client.instance.failures", instance,
+                Instance::getFailed)
+            .description("Requests to the instance failed with IO error or 5xx status")
+            .tags(tags)
+            .register(meterRegistry),
+        FunctionCounter.builder("form.validation.client.instance.ejections", instance,
+                Instance::getEjections)
+            .description("Ejections of the instance by passive health check")
+            .tags(tags)
+            .register(meterRegistry));
+  }
+}
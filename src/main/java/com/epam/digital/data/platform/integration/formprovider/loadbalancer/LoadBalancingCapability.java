@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.loadbalancer;
+
+import com.epam.digital.data.platform.integration.formprovider.resilience.OutcomeInputStream;
+import com.epam.digital.data.platform.integration.formprovider.transport.Cancellation;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+
+/**
+ * The class represents a {@link Capability} that sends requests to the instances picked by
+ * {@link LoadBalancer}. The {@code baseUrl} of a request is replaced with the instance URI, the
+ * requests to other URLs are sent as is.
+ * <p>
+ * {@link IOException}s and 5xx responses are recorded as failures of the instance, any other
+ * response is a success. A request with a response body stays outstanding until the body is
+ * closed, failure to read the body is a failure too, unless the call is cancelled.
+ */
+public class LoadBalancingCapability implements Capability {
+
+  private final String baseUrl;
+  private final LoadBalancer loadBalancer;
+
+  public LoadBalancingCapability(String baseUrl, LoadBalancer loadBalancer) {
+    this.baseUrl = stripTrailingSlash(baseUrl);
+    this.loadBalancer = loadBalancer;
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> {
+      if (!isBalanced(request.url())) {
+        return client.execute(request, options);
+      }
+      var instance = loadBalancer.choose();
+      if (instance == null) {
+        throw new ConnectException("No instances of " + baseUrl + " are available");
+      }
+      var start = System.nanoTime();
+      Response response;
+      try {
+        response = client.execute(toInstance(request, instance), options);
+      } catch (IOException ex) {
+        loadBalancer.onFailure(instance, System.nanoTime() - start);
+        throw ex;
+      } catch (RuntimeException | Error ex) {
+        loadBalancer.onIgnore(instance);
+        throw ex;
+      }
+      var latency = System.nanoTime() - start;
+      var status = response.status();
+      if (response.body() == null) {
+        onOutcome(instance, latency, status >= 500);
+        return response;
+      }
+      InputStream body;
+      try {
+        body = response.body().asInputStream();
+      } catch (IOException | RuntimeException ex) {
+        loadBalancer.onFailure(instance, latency);
+        throw ex;
+      }
+      return response.toBuilder()
+          .body(new OutcomeInputStream(body, failed -> {
+            if (failed && Cancellation.isCurrentCancelled()) {
+              loadBalancer.onIgnore(instance);
+            } else {
+              onOutcome(instance, latency, failed || status >= 500);
+            }
+          }), response.body().length())
+          .build();
+    };
+  }
+
+  private void onOutcome(Instance instance, long latency, boolean failed) {
+    if (failed) {
+      loadBalancer.onFailure(instance, latency);
+    } else {
+      loadBalancer.onSuccess(instance, latency);
+    }
+  }
+
+  private boolean isBalanced(String url) {
+    if (!url.startsWith(baseUrl)) {
+      return false;
+    }
+    return url.length() == baseUrl.length() || url.charAt(baseUrl.length()) == '/'
+        || url.charAt(baseUrl.length()) == '?';
+  }
+
+  private Request toInstance(Request request, Instance instance) {
+    var url = stripTrailingSlash(instance.getUri().toString())
+        + request.url().substring(baseUrl.length());
+    return Request.create(request.httpMethod(), url, request.headers(), request.body(),
+        request.charset(), request.requestTemplate());
+  }
+
+  private static String stripTrailingSlash(String url) {
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.metrics;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+
+/**
+ * The class represents meters of form validation client calls.
+ * <ul>
+ *   <li>{@code form.validation.client.calls} - latency of client calls tagged by method, form
+ *   key and outcome, {@code validation_error} outcome is a call rejected with 422 status</li>
+ *   <li>{@code form.validation.client.request.bytes} and
+ *   {@code form.validation.client.response.bytes} - bytes sent to and received from the
+ *   transport tagged by method</li>
+ *   <li>{@code form.validation.client.error.decoder} - time spent in error decoding tagged by
+ *   response status</li>
+ * </ul>
+ * Only first {@code maxFormKeys} form keys are used as tag values, the other ones are tagged as
+ * {@value #OTHER_FORM_KEY}. Meters are registered once per tag combination and reused.
+ */
+public class FormValidationMetrics {
+
+  public static final String CALLS = "form.validation.client.calls";
+  public static final String REQUEST_BYTES = "form.validation.client.request.bytes";
+  public static final String RESPONSE_BYTES = "form.validation.client.response.bytes";
+  public static final String ERROR_DECODER = "form.validation.client.error.decoder";
+  public static final String OTHER_FORM_KEY = "other";
+
+  private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private final MeterRegistry meterRegistry;
+  private final int maxFormKeys;
+  private final Set<String> formKeys = ConcurrentHashMap.newKeySet();
+  private final ConcurrentMap<CallKey, Timer> callTimers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Counter> requestBytes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Counter> responseBytes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Timer> errorDecoderTimers = new ConcurrentHashMap<>();
+
+  public FormValidationMetrics(MeterRegistry meterRegistry, int maxFormKeys) {
+    this.meterRegistry = meterRegistry;
+    this.maxFormKeys = maxFormKeys;
+  }
+
+  /**
+   * Record latency and outcome of a client call.
+   *
+   * @param method   client method name
+   * @param formKey  form identifier
+   * @param duration call duration in nanoseconds
+   * @param error    error the call failed with or {@code null} if it succeeded
+   */
+  public void recordCall(String method, String formKey, long duration, Throwable error) {
+    var key = new CallKey(method, formKeyTag(formKey), outcome(error));
+    callTimers.computeIfAbsent(key, this::callTimer).record(duration, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordRequestBytes(String method, long bytes) {
+    requestBytes.computeIfAbsent(method, name -> bytesCounter(REQUEST_BYTES, name))
+        .increment(bytes);
+  }
+
+  public void recordResponseBytes(String method, long bytes) {
+    responseBytes.computeIfAbsent(method, name -> bytesCounter(RESPONSE_BYTES, name))
+        .increment(bytes);
+  }
+
+  public Timer errorDecoderTimer(int status) {
+    return errorDecoderTimers.computeIfAbsent(status, code -> Timer.builder(ERROR_DECODER)
+        .description("Time spent in form validation error decoding")
+        .tag("status", String.valueOf(code))
+        .register(meterRegistry));
+  }
+
+  private Timer callTimer(CallKey key) {
+    return Timer.builder(CALLS)
+        .description("Form validation client calls")
+        .tag("method", key.getMethod())
+        .tag("formKey", key.getFormKey())
+        .tag("outcome", key.getOutcome())
+        .publishPercentiles(PERCENTILES)
+        .register(meterRegistry);
+  }
+
+  private Counter bytesCounter(String name, String method) {
+    return Counter.builder(name)
+        .baseUnit("bytes")
+        .tag("method", method)
+        .register(meterRegistry);
+  }
+
+  private String formKeyTag(String formKey) {
+    if (formKey == null) {
+      return OTHER_FORM_KEY;
+    }
+    if (formKeys.contains(formKey)) {
+      return formKey;
+    }
+    synchronized (formKeys) {
+      if (formKeys.size() < maxFormKeys) {
+        formKeys.add(formKey);
+        return formKey;
+      }
+    }
+    return OTHER_FORM_KEY;
+  }
+
+  private static String outcome(Throwable error) {
+    if (error == null) {
+      return "success";
+    }
+    if (error instanceof SubmissionValidationException) {
+      return "validation_error";
+    }
+    if (error instanceof RetryableException) {
+      return "io_error";
+    }
+    if (error instanceof FeignException) {
+      var status = ((FeignException) error).status();
+      if (status >= 500) {
+        return "server_error";
+      }
+      if (status >= 400) {
+        return "client_error";
+      }
+    }
+    return "error";
+  }
+
+  @Value
+  private static class CallKey {
+
+    String method;
+    String formKey;
+    String outcome;
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.metrics;
+
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a decorator of {@link ErrorDecoder} that records time spent in decoding.
+ */
+@RequiredArgsConstructor
+public class MeteredErrorDecoder implements ErrorDecoder {
+
+  private final ErrorDecoder delegate;
+  private final FormValidationMetrics metrics;
+
+  @Override
+  public Exception decode(String methodKey, Response response) {
+    return metrics.errorDecoderTimer(response.status())
+        .record(() -> delegate.decode(methodKey, response));
+  }
+}
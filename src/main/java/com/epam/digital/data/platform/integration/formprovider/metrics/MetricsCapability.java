@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.metrics;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+
+/**
+ * The class represents a {@link Capability} that counts request and response body bytes of
+ * client methods. If metrics are not given, the client is not decorated.
+ */
+public class MetricsCapability implements Capability {
+
+  private static final String UNKNOWN_METHOD = "unknown";
+
+  private final FormValidationMetrics metrics;
+
+  public MetricsCapability(FormValidationMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    if (metrics == null) {
+      return client;
+    }
+    return (request, options) -> {
+      var method = methodOf(request);
+      if (request.body() != null) {
+        metrics.recordRequestBytes(method, request.body().length);
+      }
+      return countResponseBytes(method, client.execute(request, options));
+    };
+  }
+
+  private Response countResponseBytes(String method, Response response) throws IOException {
+    if (response.body() == null) {
+      return response;
+    }
+    var body = new CountingInputStream(response.body().asInputStream(),
+        count -> metrics.recordResponseBytes(method, count));
+    return response.toBuilder()
+        .body(body, response.body().length())
+        .build();
+  }
+
+  private String methodOf(Request request) {
+    var template = request.requestTemplate();
+    if (template == null || template.methodMetadata() == null) {
+      return UNKNOWN_METHOD;
+    }
+    return template.methodMetadata().method().getName();
+  }
+}
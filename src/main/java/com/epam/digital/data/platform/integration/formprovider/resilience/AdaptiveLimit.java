@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+/**
+ * The interface represents a concurrency limit that is adjusted by observed request latency and
+ * drops.
+ */
+public interface AdaptiveLimit {
+
+  /**
+   * Returns current limit of in-flight requests.
+   *
+   * @return concurrency limit
+   */
+  int getLimit();
+
+  /**
+   * Adjust the limit by a completed request.
+   *
+   * @param rtt      request latency in nanoseconds
+   * @param inFlight number of in-flight requests when the request was started
+   * @param dropped  whether the request failed because of overload, i.e. timed out or got 5xx
+   */
+  void onSample(long rtt, int inFlight, boolean dropped);
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+/**
+ * The class represents an additive increase multiplicative decrease limit. The limit grows by
+ * one while requests are fast and utilize at least half of it, and is multiplied by
+ * {@code backoffRatio} when a request is dropped or is slower than {@code latencyThreshold}.
+ */
+public class AimdLimit implements AdaptiveLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThreshold;
+  private volatile int limit;
+
+  public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      long latencyThreshold) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThreshold = latencyThreshold;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rtt, int inFlight, boolean dropped) {
+    if (dropped || rtt > latencyThreshold) {
+      limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    } else if (inFlight * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The class represents a circuit breaker with a count-based sliding window of outcomes.
+ * <p>
+ * The breaker opens when at least {@code minimumNumberOfCalls} outcomes are recorded and the
+ * rate of failures in the last {@code slidingWindowSize} of them reaches
+ * {@code failureRateThreshold} percent. After {@code waitDurationInOpenState} it lets
+ * {@code permittedCallsInHalfOpenState} trial calls through and either closes or opens again by
+ * their failure rate.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  /**
+   * State of circuit breaker, ordinal is exposed as a gauge value.
+   */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final boolean[] window;
+  private final int minimumNumberOfCalls;
+  private final int failureRateThreshold;
+  private final long waitDurationInOpenState;
+  private final int permittedCallsInHalfOpenState;
+  private final Clock clock;
+  private final LongAdder rejected = new LongAdder();
+
+  private volatile State state = State.CLOSED;
+  private int index;
+  private int calls;
+  private int failures;
+  private long openedAt;
+  private int halfOpenPermits;
+
+  public CircuitBreaker(int slidingWindowSize, int minimumNumberOfCalls, int failureRateThreshold,
+      Duration waitDurationInOpenState, int permittedCallsInHalfOpenState, Clock clock) {
+    this.window = new boolean[slidingWindowSize];
+    this.minimumNumberOfCalls = Math.min(minimumNumberOfCalls, slidingWindowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.waitDurationInOpenState = waitDurationInOpenState.toMillis();
+    this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    this.clock = clock;
+  }
+
+  /**
+   * Check if a call is permitted in the current state.
+   *
+   * @return {@code true} if the call may be executed, its outcome must be recorded then
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (clock.millis() - openedAt < waitDurationInOpenState) {
+        rejected.increment();
+        return false;
+      }
+      transition(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits == 0) {
+        rejected.increment();
+        return false;
+      }
+      halfOpenPermits--;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    record(true);
+  }
+
+  /**
+   * Record a call that is neither a success nor a failure, a trial call is given back.
+   */
+  public synchronized void onIgnore() {
+    if (state == State.HALF_OPEN) {
+      halfOpenPermits++;
+    }
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  private void record(boolean failure) {
+    if (state == State.OPEN) {
+      return;
+    }
+    if (window[index] && calls == window.length) {
+      failures--;
+    }
+    window[index] = failure;
+    index = (index + 1) % window.length;
+    calls = Math.min(calls + 1, window.length);
+    if (failure) {
+      failures++;
+    }
+    var required = state == State.HALF_OPEN ? permittedCallsInHalfOpenState : minimumNumberOfCalls;
+    if (calls < required) {
+      return;
+    }
+    if (failures * 100 >= failureRateThreshold * calls) {
+      transition(State.OPEN);
+    } else if (state == State.HALF_OPEN) {
+      transition(State.CLOSED);
+    }
+  }
+
+  private void transition(State newState) {
+    log.warn("Form validation circuit breaker changed state from {} to {}", state, newState);
+    state = newState;
+    index = 0;
+    calls = 0;
+    failures = 0;
+    if (newState == State.OPEN) {
+      openedAt = clock.millis();
+    } else if (newState == State.HALF_OPEN) {
+      halfOpenPermits = permittedCallsInHalfOpenState;
+    }
+  }
+}
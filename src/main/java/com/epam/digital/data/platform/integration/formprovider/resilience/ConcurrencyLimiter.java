@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a non-blocking limiter of in-flight requests by {@link AdaptiveLimit}.
+ * A request that doesn't fit into the limit is rejected immediately instead of being queued.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimiter {
+
+  private final AdaptiveLimit limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * Acquire a permit for a request.
+   *
+   * @return permit that must be released by one of its methods, or empty if the limit is reached
+   */
+  public Optional<Permit> tryAcquire() {
+    while (true) {
+      var current = inFlight.get();
+      if (current >= limit.getLimit()) {
+        rejected.increment();
+        return Optional.empty();
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return Optional.of(new Permit(current + 1, System.nanoTime()));
+      }
+    }
+  }
+
+  public int getLimit() {
+    return limit.getLimit();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * The class represents a permit of an in-flight request.
+   */
+  @RequiredArgsConstructor
+  public class Permit {
+
+    private final int inFlightOnStart;
+    private final long startTime;
+
+    /**
+     * Release the permit of a request that got a response, its latency is used to adjust the
+     * limit.
+     */
+    public void onSuccess() {
+      release(false);
+    }
+
+    /**
+     * Release the permit of a request that timed out or got a server error, the limit is
+     * decreased.
+     */
+    public void onDropped() {
+      release(true);
+    }
+
+    /**
+     * Release the permit of a request that failed for a reason not related to the load, the
+     * limit is not adjusted.
+     */
+    public void onIgnore() {
+      inFlight.decrementAndGet();
+    }
+
+    private void release(boolean dropped) {
+      inFlight.decrementAndGet();
+      limit.onSample(System.nanoTime() - startTime, inFlightOnStart, dropped);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * The class represents an input stream that reports once it is closed whether reading of it has
+ * failed with {@link IOException}.
+ */
+public class OutcomeInputStream extends FilterInputStream {
+
+  private final Consumer<Boolean> onClose;
+  private boolean failed;
+  private boolean closed;
+
+  public OutcomeInputStream(InputStream in, Consumer<Boolean> onClose) {
+    super(in);
+    this.onClose = onClose;
+  }
+
+  @Override
+  public int read() throws IOException {
+    try {
+      return super.read();
+    } catch (IOException ex) {
+      failed = true;
+      throw ex;
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    try {
+      return super.read(b, off, len);
+    } catch (IOException ex) {
+      failed = true;
+      throw ex;
+    }
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    try {
+      return super.skip(n);
+    } catch (IOException ex) {
+      failed = true;
+      throw ex;
+    }
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      super.close();
+    } finally {
+      if (!closed) {
+        closed = true;
+        onClose.accept(failed);
+      }
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.CircuitBreakerOpenException;
+import com.epam.digital.data.platform.integration.formprovider.exception.ConcurrencyLimitExceededException;
+import com.epam.digital.data.platform.integration.formprovider.transport.Cancellation;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The class represents a {@link Capability} that protects the service by
+ * {@link ConcurrencyLimiter} and {@link CircuitBreaker}, either of them is optional. Calls above
+ * the limit or made while the breaker is open fail fast with
+ * {@link ConcurrencyLimitExceededException} or {@link CircuitBreakerOpenException}.
+ * <p>
+ * Only {@link IOException}s, including timeouts, and 5xx responses are treated as failures, any
+ * other response, e.g. 422 with validation errors, is a success. Requests aborted by
+ * {@link Cancellation} are neither successes nor failures. The outcome of a response with
+ * a body is recorded when the body is closed, so the permit is held and the latency is measured
+ * until the response is read and decoded, and a failure to read the body is a failure too.
+ * <p>
+ * If {@link MeterRegistry} is given, limiter and breaker state is exposed as
+ * {@code form.validation.client.limiter.*} and {@code form.validation.client.circuit.*} meters
+ * tagged with client name.
+ */
+public class ResilienceCapability implements Capability {
+
+  private final String clientName;
+  private final ConcurrencyLimiter limiter;
+  private final CircuitBreaker circuitBreaker;
+
+  public ResilienceCapability(String clientName, ConcurrencyLimiter limiter,
+      CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+    this.clientName = clientName;
+    this.limiter = limiter;
+    this.circuitBreaker = circuitBreaker;
+    if (meterRegistry != null) {
+      registerMeters(meterRegistry, Tags.of("client", clientName));
+    }
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> {
+      if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+        throw new CircuitBreakerOpenException(
+            "Circuit breaker of " + clientName + " is " + circuitBreaker.getState());
+      }
+      var permit = limiter == null ? null : limiter.tryAcquire().orElse(null);
+      if (limiter != null && permit == null) {
+        if (circuitBreaker != null) {
+          circuitBreaker.onIgnore();
+        }
+        throw new ConcurrencyLimitExceededException(
+            "Concurrency limit " + limiter.getLimit() + " of " + clientName + " is reached");
+      }
+      Response response;
+      try {
+        response = client.execute(request, options);
+      } catch (IOException ex) {
+        if (Cancellation.isCurrentCancelled()) {
+          onIgnore(permit);
+        } else {
+          onFailure(permit);
+        }
+        throw ex;
+      } catch (RuntimeException | Error ex) {
+        onIgnore(permit);
+        throw ex;
+      }
+      if (response.body() == null) {
+        onOutcome(permit, response.status() >= 500);
+        return response;
+      }
+      InputStream body;
+      try {
+        body = response.body().asInputStream();
+      } catch (IOException | RuntimeException ex) {
+        onFailure(permit);
+        throw ex;
+      }
+      var status = response.status();
+      return response.toBuilder()
+          .body(new OutcomeInputStream(body, failed -> {
+            if (failed && Cancellation.isCurrentCancelled()) {
+              onIgnore(permit);
+            } else {
+              onOutcome(permit, failed || status >= 500);
+            }
+          }), response.body().length())
+          .build();
+    };
+  }
+
+  private void onOutcome(ConcurrencyLimiter.Permit permit, boolean failed) {
+    if (failed) {
+      onFailure(permit);
+      return;
+    }
+    if (permit != null) {
+      permit.onSuccess();
+    }
+    if (circuitBreaker != null) {
+      circuitBreaker.onSuccess();
+    }
+  }
+
+  private void onIgnore(ConcurrencyLimiter.Permit permit) {
+    if (permit != null) {
+      permit.onIgnore();
+    }
+    if (circuitBreaker != null) {
+      circuitBreaker.onIgnore();
+    }
+  }
+
+  private void onFailure(ConcurrencyLimiter.Permit permit) {
+    if (permit != null) {
+      permit.onDropped();
+    }
+    if (circuitBreaker != null) {
+      circuitBreaker.onFailure();
+    }
+  }
+
+  private void registerMeters(MeterRegistry meterRegistry, Tags tags) {
+    if (limiter != null) {
+      Gauge.builder("form.validation.client.limiter.limit", limiter, ConcurrencyLimiter::getLimit)
+          .description("Adaptive limit of in-flight requests")
+          .tags(tags)
+          .register(meterRegistry);
+      Gauge.builder("form.validation.client.limiter.inflight", limiter,
+              ConcurrencyLimiter::getInFlight)
+          .description("Number of in-flight requests")
+          .tags(tags)
+          .register(meterRegistry);
+      FunctionCounter.builder("form.validation.client.limiter.rejected", limiter,
+              ConcurrencyLimiter::getRejected)
+          .description("Requests rejected by concurrency limit")
+          .tags(tags)
+          .register(meterRegistry);
+    }
+    if (circuitBreaker != null) {
+      Gauge.builder("form.validation.client.circuit.state", circuitBreaker,
+              breaker -> breaker.getState().ordinal())
+          .description("Circuit breaker state, 0 - closed, 1 - open, 2 - half open")
+          .tags(tags)
+          .register(meterRegistry);
+      FunctionCounter.builder("form.validation.client.circuit.rejected", circuitBreaker,
+              CircuitBreaker::getRejected)
+          .description("Requests rejected by open circuit breaker")
+          .tags(tags)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+/**
+ * The class represents a token bucket that limits repeated requests, retries or hedges, by a
+ * share of all requests. Every request adds {@code ratio} of a token, every repeated request
+ * takes a whole one, at most {@link #MAX_TOKENS} tokens are saved up for bursts.
+ */
+public class RetryBudget {
+
+  public static final double MAX_TOKENS = 10;
+
+  private final double ratio;
+  private double tokens;
+
+  public RetryBudget(double ratio, double initialTokens) {
+    this.ratio = ratio;
+    this.tokens = Math.min(MAX_TOKENS, initialTokens);
+  }
+
+  /**
+   * Adds the share of a token for a request.
+   */
+  public synchronized void onRequest() {
+    tokens = Math.min(MAX_TOKENS, tokens + ratio);
+  }
+
+  /**
+   * Takes a token for a repeated request if there is one.
+   *
+   * @return {@code true} if the request may be repeated
+   */
+  public synchronized boolean tryAcquire() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+import com.epam.digital.data.platform.integration.formprovider.transport.Cancellation;
+import com.epam.digital.data.platform.integration.formprovider.transport.Deadline;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class represents a {@link Capability} that retries requests failed with
+ * {@link IOException}, 429 or 5xx status, except 501 and 505. Any other response, e.g. 422 with
+ * validation errors, is returned as is. All the validation calls are idempotent, so they are
+ * safe to repeat.
+ * <p>
+ * Retries are delayed by exponential backoff with full jitter or by {@code Retry-After} header,
+ * a request is not retried if the header asks to wait longer than {@code maxRetryAfter} or the
+ * {@link Deadline} of the caller comes before the retry. When retries are over, the last
+ * response or exception is returned to the caller as without retries.
+ * <p>
+ * Retries are limited by {@link RetryBudget}, a share of requests that may be retried, so retries
+ * can't multiply load on the service when it's down. Cancelled calls are not retried.
+ * <p>
+ * If {@link MeterRegistry} is given, retries are counted by {@code form.validation.client.retry}
+ * tagged with client name and reason, {@code io} or {@code status}, and retries not made
+ * because of the budget by {@code form.validation.client.retry.throttled}.
+ */
+public class RetryCapability implements Capability {
+
+  private static final String RETRY_AFTER = "Retry-After";
+
+  private final int maxAttempts;
+  private final long initialBackoff;
+  private final long maxBackoff;
+  private final double multiplier;
+  private final RetryBudget budget;
+  private final long maxRetryAfter;
+  private final Counter ioRetries;
+  private final Counter statusRetries;
+  private final Counter throttled;
+
+  public RetryCapability(String clientName, int maxAttempts, Duration initialBackoff,
+      Duration maxBackoff, double multiplier, double budget, Duration maxRetryAfter,
+      MeterRegistry meterRegistry) {
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff.toNanos();
+    this.maxBackoff = maxBackoff.toNanos();
+    this.multiplier = multiplier;
+    this.budget = new RetryBudget(budget, RetryBudget.MAX_TOKENS);
+    this.maxRetryAfter = maxRetryAfter.toNanos();
+    var registry = meterRegistry == null ? new CompositeMeterRegistry() : meterRegistry;
+    this.ioRetries = Counter.builder("form.validation.client.retry")
+        .description("Retried requests")
+        .tags("client", clientName, "reason", "io")
+        .register(registry);
+    this.statusRetries = Counter.builder("form.validation.client.retry")
+        .description("Retried requests")
+        .tags("client", clientName, "reason", "status")
+        .register(registry);
+    this.throttled = Counter.builder("form.validation.client.retry.throttled")
+        .description("Requests not retried because of the budget")
+        .tag("client", clientName)
+        .register(registry);
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> execute(client, request, options);
+  }
+
+  private Response execute(Client client, Request request, Options options) throws IOException {
+    budget.onRequest();
+    for (var attempt = 1; ; attempt++) {
+      Response response;
+      try {
+        response = client.execute(request, options);
+      } catch (IOException ex) {
+        var delay = backoff(attempt, null);
+        if (attempt >= maxAttempts || !canRetry(delay)) {
+          throw ex;
+        }
+        ioRetries.increment();
+        sleep(delay);
+        continue;
+      }
+      if (!isRetryable(response.status())) {
+        return response;
+      }
+      var delay = backoff(attempt, response.headers().get(RETRY_AFTER));
+      if (attempt >= maxAttempts || delay > maxRetryAfter || !canRetry(delay)) {
+        return response;
+      }
+      response.close();
+      statusRetries.increment();
+      sleep(delay);
+    }
+  }
+
+  private boolean isRetryable(int status) {
+    return status == 429 || status >= 500 && status != 501 && status != 505;
+  }
+
+  private long backoff(int attempt, Collection<String> retryAfter) {
+    if (retryAfter != null && !retryAfter.isEmpty()) {
+      var delay = parseRetryAfter(retryAfter.iterator().next());
+      if (delay >= 0) {
+        return delay;
+      }
+    }
+    var ceiling = Math.min(maxBackoff, initialBackoff * Math.pow(multiplier, attempt - 1));
+    return (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+  }
+
+  private boolean canRetry(long delay) {
+    if (Cancellation.isCurrentCancelled()) {
+      return false;
+    }
+    var deadline = Deadline.current();
+    if (deadline.isPresent() && deadline.get().remaining().toNanos() <= delay) {
+      return false;
+    }
+    if (!budget.tryAcquire()) {
+      throttled.increment();
+      return false;
+    }
+    return true;
+  }
+
+  private static long parseRetryAfter(String value) {
+    try {
+      return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+    } catch (NumberFormatException ex) {
+      try {
+        var date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos());
+      } catch (DateTimeParseException dateEx) {
+        return -1;
+      }
+    }
+  }
+
+  private static void sleep(long nanos) throws InterruptedIOException {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for retry");
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.resilience;
+
+/**
+ * The class represents a TCP Vegas style limit. The queue size is estimated as
+ * {@code limit * (1 - minRtt / rtt)}, the limit grows while the estimated queue is small and
+ * shrinks when it is large or a request is dropped. Minimal latency is re-measured every
+ * {@value #PROBE_INTERVAL} samples to follow changes of the service.
+ */
+public class VegasLimit implements AdaptiveLimit {
+
+  private static final int PROBE_INTERVAL = 1000;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private volatile int limit;
+  private long minRtt;
+  private long samples;
+
+  public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rtt, int inFlight, boolean dropped) {
+    if (++samples % PROBE_INTERVAL == 0 || minRtt == 0 || rtt < minRtt) {
+      minRtt = rtt;
+    }
+    var current = limit;
+    var log = Math.max(1, (int) Math.log10(current));
+    int updated;
+    if (dropped) {
+      updated = current - log;
+    } else if (inFlight * 2 < current) {
+      return;
+    } else {
+      var queueSize = (int) Math.ceil(current * (1 - (double) minRtt / rtt));
+      if (queueSize <= log) {
+        updated = current + 6 * log;
+      } else if (queueSize < 3 * log) {
+        updated = current + log;
+      } else if (queueSize > 6 * log) {
+        updated = current - log;
+      } else {
+        return;
+      }
+    }
+    limit = Math.max(minLimit, Math.min(maxLimit, updated));
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.schema;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.ComponentsDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FileDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.NestedComponentDto;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The class represents compiled {@code filePattern} and {@code fileMaxSize} of a file component.
+ * <p>
+ * Pattern is a comma separated list of MIME types, MIME type globs like {@code image/*} and file
+ * extensions like {@code .pdf} or {@code *.pdf}, {@code *} allows any file. Size is a number with
+ * optional {@code B}, {@code KB}, {@code MB} or {@code GB} unit. Whether the server counts units
+ * in 1000 or 1024 multiples isn't assumed, a file fits the size only if it's not larger than the
+ * 1000 multiples, larger files are left to the server, as well as parts that can't be parsed.
+ * Only the type is rejected locally, size violations are reported by the server.
+ */
+public final class FileFieldRule {
+
+  private static final Pattern SIZE = Pattern.compile(
+      "\\s*(\\d+(?:\\.\\d+)?)\\s*([KMG]?B?)\\s*", Pattern.CASE_INSENSITIVE);
+
+  private final String filePattern;
+  private final String fileMaxSize;
+  private final long maxSize;
+  private final boolean patternParsed;
+  private final boolean anyType;
+  private final Set<String> mimeTypes = new HashSet<>();
+  private final Set<String> mimeTypePrefixes = new HashSet<>();
+  private final Set<String> extensions = new HashSet<>();
+
+  private FileFieldRule(String filePattern, String fileMaxSize) {
+    this.filePattern = filePattern;
+    this.fileMaxSize = fileMaxSize;
+    this.maxSize = parseSize(fileMaxSize);
+    var anyType = false;
+    var unparsed = false;
+    if (filePattern != null) {
+      for (var part : filePattern.split(",")) {
+        var pattern = part.trim().toLowerCase(Locale.ROOT);
+        if (pattern.equals("*") || pattern.equals("*/*")) {
+          anyType = true;
+        } else if (pattern.startsWith("*.") || pattern.startsWith(".")) {
+          extensions.add(pattern.substring(pattern.indexOf('.')));
+        } else if (pattern.endsWith("/*")) {
+          mimeTypePrefixes.add(pattern.substring(0, pattern.length() - 1));
+        } else if (pattern.indexOf('/') > 0) {
+          mimeTypes.add(pattern);
+        } else if (!pattern.isEmpty()) {
+          unparsed = true;
+        }
+      }
+    }
+    this.anyType = anyType;
+    this.patternParsed = !unparsed && (anyType || !mimeTypes.isEmpty()
+        || !mimeTypePrefixes.isEmpty() || !extensions.isEmpty());
+  }
+
+  /**
+   * Compile rules of file components of the form definition, including nested components.
+   *
+   * @param form form definition
+   * @return rules by component key, components without file rules are skipped
+   */
+  public static Map<String, FileFieldRule> of(FormDto form) {
+    var rules = new HashMap<String, FileFieldRule>();
+    if (form == null || form.getComponents() == null) {
+      return Map.of();
+    }
+    for (ComponentsDto component : form.getComponents()) {
+      if (component == null) {
+        continue;
+      }
+      add(rules, component.getKey(), component.getFilePattern(), component.getFileMaxSize());
+      if (component.getComponents() != null) {
+        for (NestedComponentDto nested : component.getComponents()) {
+          if (nested != null) {
+            add(rules, nested.getKey(), nested.getFilePattern(), nested.getFileMaxSize());
+          }
+        }
+      }
+    }
+    return Map.copyOf(rules);
+  }
+
+  /**
+   * Check file data against the rule.
+   *
+   * @param file file data
+   * @return result of the check, {@link Verdict#UNKNOWN} if it can be decided only by the server
+   */
+  public Verdict check(FileDataValidationDto file) {
+    var sizeFits = fileMaxSize == null
+        || maxSize >= 0 && file.getSize() != null && file.getSize() <= maxSize;
+    return sizeFits ? checkType(file) : Verdict.UNKNOWN;
+  }
+
+  private Verdict checkType(FileDataValidationDto file) {
+    if (filePattern == null || anyType) {
+      return Verdict.VALID;
+    }
+    var contentType = mimeTypeOf(file.getContentType());
+    var extension = extensionOf(file.getFileName());
+    if (contentType != null && (mimeTypes.contains(contentType) || mimeTypePrefixes.contains(
+        contentType.substring(0, contentType.indexOf('/') + 1)))) {
+      return Verdict.VALID;
+    }
+    if (extension != null && extensions.contains(extension)) {
+      return Verdict.VALID;
+    }
+    if (!patternParsed) {
+      return Verdict.UNKNOWN;
+    }
+    var mimeChecked = contentType != null || mimeTypes.isEmpty() && mimeTypePrefixes.isEmpty();
+    var extensionChecked = file.getFileName() != null || extensions.isEmpty();
+    return mimeChecked && extensionChecked ? Verdict.TYPE_NOT_SUPPORTED : Verdict.UNKNOWN;
+  }
+
+  private static String mimeTypeOf(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    var end = contentType.indexOf(';');
+    var mimeType = (end < 0 ? contentType : contentType.substring(0, end)).trim()
+        .toLowerCase(Locale.ROOT);
+    return mimeType.indexOf('/') > 0 ? mimeType : null;
+  }
+
+  private static String extensionOf(String fileName) {
+    if (fileName == null) {
+      return null;
+    }
+    var dot = fileName.lastIndexOf('.');
+    return dot < 0 ? null : fileName.substring(dot).toLowerCase(Locale.ROOT);
+  }
+
+  private static long parseSize(String fileMaxSize) {
+    if (fileMaxSize == null) {
+      return -1;
+    }
+    var matcher = SIZE.matcher(fileMaxSize);
+    if (!matcher.matches()) {
+      return -1;
+    }
+    var unit = matcher.group(2).toUpperCase(Locale.ROOT);
+    var multiplier = unit.startsWith("G") ? 1_000_000_000L : unit.startsWith("M") ? 1_000_000L
+        : unit.startsWith("K") ? 1_000L : 1L;
+    return (long) (Double.parseDouble(matcher.group(1)) * multiplier);
+  }
+
+  private static void add(Map<String, FileFieldRule> rules, String key, String filePattern,
+      String fileMaxSize) {
+    if (key != null && (filePattern != null || fileMaxSize != null)) {
+      rules.putIfAbsent(key, new FileFieldRule(filePattern, fileMaxSize));
+    }
+  }
+
+  /**
+   * Result of local file check.
+   */
+  public enum Verdict {
+    /**
+     * File matches both pattern and size of the component.
+     */
+    VALID,
+    /**
+     * File fits the size, but its type matches neither MIME types nor extensions of the
+     * pattern.
+     */
+    TYPE_NOT_SUPPORTED,
+    /**
+     * File can't be checked locally.
+     */
+    UNKNOWN
+  }
+}
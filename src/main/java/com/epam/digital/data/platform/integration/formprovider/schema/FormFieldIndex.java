@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.schema;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.ComponentsDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.NestedComponentDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * The class represents an immutable index of component keys and types of a form definition,
+ * including keys of nested components. Keys are kept in a sorted array and looked up by binary
+ * search.
+ * <p>
+ * If the same key is used by several components, the type of the first one is kept.
+ */
+public final class FormFieldIndex {
+
+  private static final FormFieldIndex EMPTY = new FormFieldIndex(new String[0], new String[0]);
+
+  private final String[] keys;
+  private final String[] types;
+
+  private FormFieldIndex(String[] keys, String[] types) {
+    this.keys = keys;
+    this.types = types;
+  }
+
+  /**
+   * Compile index of the form definition.
+   *
+   * @param form form definition
+   * @return index of component keys
+   */
+  public static FormFieldIndex of(FormDto form) {
+    if (form == null || form.getComponents() == null) {
+      return EMPTY;
+    }
+    var components = new TreeMap<String, String>();
+    for (ComponentsDto component : form.getComponents()) {
+      if (component == null) {
+        continue;
+      }
+      add(components, component.getKey(), component.getType());
+      if (component.getComponents() != null) {
+        for (NestedComponentDto nested : component.getComponents()) {
+          if (nested != null) {
+            add(components, nested.getKey(), nested.getType());
+          }
+        }
+      }
+    }
+    return new FormFieldIndex(components.keySet().toArray(String[]::new),
+        components.values().toArray(String[]::new));
+  }
+
+  public boolean contains(String key) {
+    return key != null && Arrays.binarySearch(keys, key) >= 0;
+  }
+
+  /**
+   * Get type of the component.
+   *
+   * @param key component key
+   * @return component type or empty if there is no such component or its type isn't set
+   */
+  public Optional<String> typeOf(String key) {
+    var index = key == null ? -1 : Arrays.binarySearch(keys, key);
+    return index < 0 ? Optional.empty() : Optional.ofNullable(types[index]);
+  }
+
+  /**
+   * Get keys that aren't components of the form.
+   *
+   * @param fields field names to check
+   * @return distinct missing keys in the order of {@code fields}
+   */
+  public List<String> missing(Collection<String> fields) {
+    if (fields == null) {
+      return List.of();
+    }
+    var missing = new LinkedHashSet<String>();
+    for (var field : fields) {
+      if (!contains(field)) {
+        missing.add(field);
+      }
+    }
+    return new ArrayList<>(missing);
+  }
+
+  public int size() {
+    return keys.length;
+  }
+
+  private static void add(TreeMap<String, String> components, String key, String type) {
+    if (key != null) {
+      components.putIfAbsent(key, type);
+    }
+  }
+}
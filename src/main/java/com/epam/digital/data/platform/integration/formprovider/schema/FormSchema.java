@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.schema;
+
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * The class represents a cached form definition together with the entity tag it was served
+ * with, {@link FormFieldIndex} and {@link FileFieldRule}s compiled from it.
+ */
+@Value
+public class FormSchema {
+
+  String formKey;
+  FormDto form;
+  String eTag;
+  FormFieldIndex fieldIndex;
+  Map<String, FileFieldRule> fileRules;
+
+  public FormSchema(String formKey, FormDto form, String eTag) {
+    this.formKey = formKey;
+    this.form = form;
+    this.eTag = eTag;
+    this.fieldIndex = FormFieldIndex.of(form);
+    this.fileRules = FileFieldRule.of(form);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.schema;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormSchemaClient;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.FormSchemaCacheProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import feign.FeignException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The class represents a bounded in-memory repository of form definitions.
+ * <p>
+ * Definition is fetched once per form key and kept until it is evicted by size or by TTL. Entries
+ * that are read after {@code refresh-after-write} interval are revalidated in background with
+ * conditional request ({@code If-None-Match}), the stale definition is served while revalidation
+ * is in progress and is kept as is if it is not modified.
+ */
+@Slf4j
+public class FormSchemaRepository {
+
+  private static final String METHOD_KEY = "FormSchemaClient#getForm(String,String)";
+
+  private final FormSchemaClient formSchemaClient;
+  private final ObjectReader formReader;
+  private final ExecutorService refreshExecutor;
+  private final LoadingCache<String, FormSchema> cache;
+  private final Set<String> loading = ConcurrentHashMap.newKeySet();
+
+  public FormSchemaRepository(FormSchemaClient formSchemaClient, ObjectMapper objectMapper,
+      FormSchemaCacheProperties properties) {
+    this.formSchemaClient = formSchemaClient;
+    this.formReader = objectMapper.readerFor(FormDto.class);
+    this.refreshExecutor = Executors.newFixedThreadPool(properties.getRefreshThreads(),
+        daemonThreadFactory());
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getExpireAfterWrite())
+        .refreshAfterWrite(properties.getRefreshAfterWrite())
+        .executor(refreshExecutor)
+        .build(new FormSchemaLoader());
+  }
+
+  /**
+   * Get form definition, fetching it on the first access.
+   *
+   * @param formKey form identifier
+   * @return form definition
+   */
+  public FormDto getForm(String formKey) {
+    return cache.get(formKey).getForm();
+  }
+
+  /**
+   * Get form definition only if it is already loaded, never calls the remote service.
+   *
+   * @param formKey form identifier
+   * @return loaded form definition or empty
+   */
+  public Optional<FormSchema> findLoaded(String formKey) {
+    return Optional.ofNullable(cache.getIfPresent(formKey));
+  }
+
+  /**
+   * Get form definition if it is already loaded, otherwise start loading it in background and
+   * return empty, so the caller never waits for the remote service.
+   *
+   * @param formKey form identifier
+   * @return loaded form definition or empty
+   */
+  public Optional<FormSchema> findOrLoad(String formKey) {
+    var schema = cache.getIfPresent(formKey);
+    if (schema == null && loading.add(formKey)) {
+      try {
+        refreshExecutor.execute(() -> load(formKey));
+      } catch (RejectedExecutionException ex) {
+        loading.remove(formKey);
+      }
+    }
+    return Optional.ofNullable(schema);
+  }
+
+  /**
+   * Remove form definition from the repository, e.g. after the form was redeployed.
+   *
+   * @param formKey form identifier
+   */
+  public void evict(String formKey) {
+    cache.invalidate(formKey);
+  }
+
+  public void shutdown() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private void load(String formKey) {
+    try {
+      cache.get(formKey);
+    } catch (RuntimeException ex) {
+      log.debug("Failed to load form definition {} in background", formKey, ex);
+    } finally {
+      loading.remove(formKey);
+    }
+  }
+
+  private FormSchema fetch(String formKey, FormSchema cached) throws IOException {
+    var eTag = cached == null ? null : cached.getETag();
+    try (var response = formSchemaClient.getForm(formKey, eTag)) {
+      if (cached != null && response.status() == HttpStatus.NOT_MODIFIED.value()) {
+        log.debug("Form definition {} is not modified", formKey);
+        return cached;
+      }
+      if (!HttpStatus.valueOf(response.status()).is2xxSuccessful()) {
+        throw FeignException.errorStatus(METHOD_KEY, response);
+      }
+      var form = response.body() == null
+          ? null : formReader.<FormDto>readValue(response.body().asInputStream());
+      var eTags = response.headers().get(HttpHeaders.ETAG);
+      return new FormSchema(formKey, form,
+          eTags == null ? null : eTags.stream().findFirst().orElse(null));
+    }
+  }
+
+  private static CustomizableThreadFactory daemonThreadFactory() {
+    var threadFactory = new CustomizableThreadFactory("form-schema-refresh-");
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  private class FormSchemaLoader implements CacheLoader<String, FormSchema> {
+
+    @Override
+    public FormSchema load(String formKey) throws IOException {
+      log.debug("Loading form definition {}", formKey);
+      return fetch(formKey, null);
+    }
+
+    @Override
+    public FormSchema reload(String formKey, FormSchema oldValue) throws IOException {
+      return fetch(formKey, oldValue.getETag() == null ? null : oldValue);
+    }
+  }
+}
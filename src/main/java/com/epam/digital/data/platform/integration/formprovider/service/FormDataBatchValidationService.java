@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.service;
+
+import com.epam.digital.data.platform.integration.formprovider.client.FormValidationClient;
+import com.epam.digital.data.platform.integration.formprovider.client.OptionalEndpoint;
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.BatchProperties;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationResultDto;
+import com.epam.digital.data.platform.integration.formprovider.exception.SubmissionValidationException;
+import feign.FeignException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The class represents a service that validates many form data items of the same form.
+ * <p>
+ * Items are sent in chunks of {@code batch.size} to the batch endpoint. If the server doesn't
+ * provide the batch endpoint, items are validated one by one with at most
+ * {@code batch.parallelism} concurrent requests, the batch endpoint is probed again after
+ * {@code batch.probe-interval}. A batch response with a number of results other than the number of
+ * items is rejected with {@link IllegalStateException}.
+ */
+public class FormDataBatchValidationService {
+
+  private final FormValidationClient formValidationClient;
+  private final int batchSize;
+  private final ExecutorService executor;
+  private final OptionalEndpoint batchEndpoint;
+
+  public FormDataBatchValidationService(FormValidationClient formValidationClient,
+      BatchProperties properties) {
+    this.formValidationClient = formValidationClient;
+    this.batchSize = properties.getSize();
+    this.batchEndpoint = new OptionalEndpoint("Batch validation", properties.getProbeInterval());
+    var threadFactory = new CustomizableThreadFactory("form-validation-batch-");
+    threadFactory.setDaemon(true);
+    this.executor = Executors.newFixedThreadPool(properties.getParallelism(), threadFactory);
+  }
+
+  /**
+   * Validate list of form data items.
+   *
+   * @param formKey  form identifier
+   * @param formData list of form data for validation
+   * @return validation results in the order of {@code formData}
+   */
+  public List<FormDataValidationResultDto> validate(String formKey,
+      List<FormDataValidationDto> formData) {
+    var results = new ArrayList<FormDataValidationResultDto>(formData.size());
+    for (int from = 0; from < formData.size(); from += batchSize) {
+      var chunk = formData.subList(from, Math.min(from + batchSize, formData.size()));
+      results.addAll(validateChunk(formKey, chunk));
+    }
+    return results;
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private List<FormDataValidationResultDto> validateChunk(String formKey,
+      List<FormDataValidationDto> chunk) {
+    if (batchEndpoint.isAvailable()) {
+      List<FormDataValidationResultDto> results;
+      try {
+        results = formValidationClient.validateFormDataBatch(formKey, chunk);
+      } catch (FeignException ex) {
+        if (!batchEndpoint.onFailure(ex)) {
+          throw ex;
+        }
+        return validateOneByOne(formKey, chunk);
+      }
+      batchEndpoint.onSuccess();
+      var size = results == null ? 0 : results.size();
+      if (size != chunk.size()) {
+        throw new IllegalStateException(String.format(
+            "Batch validation of form %s returned %d results for %d items", formKey, size,
+            chunk.size()));
+      }
+      return results;
+    }
+    return validateOneByOne(formKey, chunk);
+  }
+
+  private List<FormDataValidationResultDto> validateOneByOne(String formKey,
+      List<FormDataValidationDto> chunk) {
+    var futures = chunk.stream()
+        .map(item -> CompletableFuture.supplyAsync(() -> validateItem(formKey, item), executor))
+        .collect(Collectors.toList());
+    try {
+      return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    } catch (CompletionException ex) {
+      futures.forEach(future -> future.cancel(true));
+      throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+    }
+  }
+
+  private FormDataValidationResultDto validateItem(String formKey, FormDataValidationDto item) {
+    try {
+      return FormDataValidationResultDto.builder()
+          .formData(formValidationClient.validateFormData(formKey, item))
+          .build();
+    } catch (SubmissionValidationException ex) {
+      return FormDataValidationResultDto.builder()
+          .formData(item)
+          .errors(ex.getErrors())
+          .build();
+    }
+  }
+}
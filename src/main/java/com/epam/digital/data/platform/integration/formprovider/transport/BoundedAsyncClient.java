@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The class represents a decorator of {@link AsyncClient} that limits the number of in-flight
+ * requests. Requests above the limit wait in a bounded queue, requests above the queue capacity
+ * are rejected with {@link RejectedExecutionException}.
+ * <p>
+ * The queue is drained by one thread at a time in a loop, so requests completed synchronously by
+ * the delegate don't grow the stack. Cancelling the returned future removes a waiting request
+ * from the queue or cancels the in-flight one.
+ * <p>
+ * A request is sent to the delegate with the {@link Deadline} of the thread that made the call,
+ * so a delegate enriched by {@link DeadlineCapability} takes the time spent in the queue into
+ * account. A request whose deadline is passed while it was waiting is failed with
+ * {@link DeadlineExceededException} without being sent.
+ */
+public class BoundedAsyncClient<C> implements AsyncClient<C> {
+
+  private final AsyncClient<C> delegate;
+  private final Semaphore inFlight;
+  private final int maxQueued;
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+
+  public BoundedAsyncClient(AsyncClient<C> delegate, int maxInFlight, int maxQueued) {
+    this.delegate = delegate;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxQueued = maxQueued;
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Options options,
+      Optional<C> requestContext) {
+    var result = new CompletableFuture<Response>();
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      result.completeExceptionally(new RejectedExecutionException(
+          "Too many pending form validation requests: " + maxQueued));
+      return result;
+    }
+    var deadline = Deadline.current();
+    Supplier<CompletableFuture<Response>> call = Deadline.propagate(
+        () -> delegate.execute(request, options, requestContext));
+    Runnable task = () -> send(request, deadline, call, result);
+    queue.add(task);
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled() && queue.remove(task)) {
+        queued.decrementAndGet();
+      }
+    });
+    drain();
+    return result;
+  }
+
+  private void send(Request request, Optional<Deadline> deadline,
+      Supplier<CompletableFuture<Response>> call, CompletableFuture<Response> result) {
+    if (result.isDone()) {
+      inFlight.release();
+      return;
+    }
+    if (deadline.isPresent() && deadline.get().isExpired()) {
+      inFlight.release();
+      result.completeExceptionally(new DeadlineExceededException("Deadline is exceeded while "
+          + request.httpMethod() + " " + request.url() + " was queued"));
+      return;
+    }
+    CompletableFuture<Response> response;
+    try {
+      response = call.get();
+    } catch (RuntimeException ex) {
+      response = CompletableFuture.failedFuture(ex);
+    }
+    var sent = response;
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        sent.cancel(true);
+      }
+    });
+    sent.whenComplete((value, error) -> {
+      inFlight.release();
+      drain();
+      if (error != null) {
+        result.completeExceptionally(error);
+      } else if (!result.complete(value) && value != null) {
+        value.close();
+      }
+    });
+  }
+
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      while (!queue.isEmpty() && inFlight.tryAcquire()) {
+        var task = queue.poll();
+        if (task == null) {
+          inFlight.release();
+          continue;
+        }
+        queued.decrementAndGet();
+        task.run();
+      }
+    } while (drainRequests.decrementAndGet() != 0);
+  }
+}
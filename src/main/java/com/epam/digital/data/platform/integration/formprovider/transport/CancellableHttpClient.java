@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+
+/**
+ * The class represents a decorator of Apache HttpClient 5, whose requests are aborted when the
+ * {@link Cancellation} of the call is cancelled. Requests sent within a cancellation are copied
+ * to cancellable {@link HttpUriRequestBase}, cancelling it releases the connection the request
+ * is blocked on.
+ */
+@RequiredArgsConstructor
+public class CancellableHttpClient extends CloseableHttpClient {
+
+  private final CloseableHttpClient httpClient;
+
+  @Override
+  protected CloseableHttpResponse doExecute(HttpHost target, ClassicHttpRequest request,
+      HttpContext context) throws IOException {
+    var cancellation = Cancellation.current();
+    if (cancellation.isEmpty()) {
+      return httpClient.execute(target, request, context);
+    }
+    HttpUriRequestBase cancellable;
+    try {
+      cancellable = new HttpUriRequestBase(request.getMethod(), request.getUri());
+    } catch (URISyntaxException ex) {
+      throw new IOException("URL '" + request.getRequestUri() + "' couldn't be parsed", ex);
+    }
+    cancellable.setHeaders(request.getHeaders());
+    cancellable.setEntity(request.getEntity());
+    cancellation.get().onCancel(cancellable::cancel);
+    return httpClient.execute(target, cancellable, context);
+  }
+
+  @Override
+  public void close() throws IOException {
+    httpClient.close();
+  }
+
+  @Override
+  public void close(CloseMode closeMode) {
+    httpClient.close(closeMode);
+  }
+}
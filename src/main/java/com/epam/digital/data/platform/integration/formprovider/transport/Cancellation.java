@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The class represents a signal to abort requests of a call that is no longer needed, e.g. a
+ * hedged attempt that lost the race. The cancellation is bound to the current thread for the
+ * time of {@link #call(Supplier)}, transports register abort actions of the requests they send
+ * by {@link #onCancel(Runnable)}, so a request blocked on IO is aborted by the transport itself
+ * rather than by interrupting the thread.
+ */
+public final class Cancellation {
+
+  private static final ThreadLocal<Cancellation> CURRENT = new ThreadLocal<>();
+
+  private final List<Runnable> actions = new ArrayList<>();
+  private boolean cancelled;
+  private boolean abortable;
+
+  /**
+   * Returns the cancellation bound to the current thread.
+   *
+   * @return current cancellation if any
+   */
+  public static Optional<Cancellation> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Returns {@code true} if the cancellation bound to the current thread is cancelled.
+   *
+   * @return whether the current call is cancelled
+   */
+  public static boolean isCurrentCancelled() {
+    var current = CURRENT.get();
+    return current != null && current.isCancelled();
+  }
+
+  /**
+   * Runs the action with this cancellation bound to the current thread.
+   *
+   * @param action action to run
+   * @param <T>    type of the result
+   * @return result of the action
+   */
+  public <T> T call(Supplier<T> action) {
+    var previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Registers the action that aborts a request, the action is run at once if the call is
+   * already cancelled.
+   *
+   * @param action abort action
+   */
+  public void onCancel(Runnable action) {
+    synchronized (this) {
+      abortable = true;
+      if (!cancelled) {
+        actions.add(action);
+        return;
+      }
+    }
+    action.run();
+  }
+
+  /**
+   * Cancels the call and aborts its requests, subsequent calls do nothing.
+   */
+  public void cancel() {
+    List<Runnable> toRun;
+    synchronized (this) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      toRun = List.copyOf(actions);
+      actions.clear();
+    }
+    toRun.forEach(Runnable::run);
+  }
+
+  public synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Returns {@code true} if an abort action of a request was registered within this
+   * cancellation, a call that got a response without it was made by a transport that doesn't
+   * abort requests.
+   *
+   * @return whether requests of the call can be aborted
+   */
+  public synchronized boolean isAbortable() {
+    return abortable;
+  }
+}
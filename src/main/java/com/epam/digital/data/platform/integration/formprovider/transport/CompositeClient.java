@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a pair of {@link Client} and {@link AsyncClient} acting as one transport.
+ * <p>
+ * Feign enriches a component with the first {@link Capability} method that returns its type, so
+ * a transport that implements both interfaces, like {@link JdkHttpClient}, may get an async
+ * client in place of the blocking one or vice versa. Capabilities return this class for such
+ * transports to keep both roles enriched whichever method is called.
+ *
+ * @param <C> type of request context
+ */
+@RequiredArgsConstructor
+public class CompositeClient<C> implements Client, AsyncClient<C> {
+
+  private final Client client;
+  private final AsyncClient<C> asyncClient;
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    return client.execute(request, options);
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Options options,
+      Optional<C> requestContext) {
+    return asyncClient.execute(request, options, requestContext);
+  }
+}
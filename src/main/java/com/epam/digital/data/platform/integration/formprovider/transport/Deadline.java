@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The class represents a point in time by which the caller needs the result of validation
+ * calls. The deadline is bound to the current thread for the time of
+ * {@link #call(Duration, Supplier)} or {@link #run(Duration, Runnable)}, a nested deadline never
+ * extends the outer one.
+ * <p>
+ * Work that is handed over to other threads keeps the deadline if it's wrapped by
+ * {@link #propagate(Supplier)}, the result of such work is awaited within the deadline by
+ * {@link #join(CompletableFuture)}.
+ */
+public final class Deadline {
+
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+
+  private Deadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Returns the deadline bound to the current thread.
+   *
+   * @return current deadline if any
+   */
+  public static Optional<Deadline> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Runs the action with the deadline after the given time budget.
+   *
+   * @param budget time budget of the action
+   * @param action action to run
+   * @param <T>    type of the result
+   * @return result of the action
+   */
+  public static <T> T call(Duration budget, Supplier<T> action) {
+    var deadline = new Deadline(System.nanoTime() + budget.toNanos());
+    var outer = CURRENT.get();
+    return within(outer != null && outer.deadlineNanos - deadline.deadlineNanos < 0
+        ? outer : deadline, action);
+  }
+
+  /**
+   * Runs the action with the deadline after the given time budget.
+   *
+   * @param budget time budget of the action
+   * @param action action to run
+   */
+  public static void run(Duration budget, Runnable action) {
+    call(budget, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /**
+   * Returns the action that runs with the deadline of the current thread, whatever thread it is
+   * run by.
+   *
+   * @param action action to wrap
+   * @param <T>    type of the result
+   * @return action bound to the current deadline
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> action) {
+    var deadline = CURRENT.get();
+    return deadline == null ? action : () -> within(deadline, action);
+  }
+
+  /**
+   * Waits for the result of the future like {@link CompletableFuture#join()}, but no longer than
+   * the deadline bound to the current thread, if any.
+   *
+   * @param future future to wait for
+   * @param <T>    type of the result
+   * @return result of the future
+   * @throws CompletionException       if the future is completed exceptionally
+   * @throws DeadlineExceededException if the deadline is passed before the future is completed
+   * @throws CancellationException     if the future is cancelled or the thread is interrupted
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    var deadline = CURRENT.get();
+    if (deadline == null || future.isDone()) {
+      return future.join();
+    }
+    try {
+      return future.get(Math.max(0, deadline.deadlineNanos - System.nanoTime()),
+          TimeUnit.NANOSECONDS);
+    } catch (ExecutionException ex) {
+      throw new CompletionException(ex.getCause());
+    } catch (TimeoutException ex) {
+      throw new DeadlineExceededException("Deadline is exceeded while waiting for the result");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for the result");
+    }
+  }
+
+  /**
+   * Returns the time left before the deadline, negative if the deadline is passed.
+   *
+   * @return remaining time budget
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(deadlineNanos - System.nanoTime());
+  }
+
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  private static <T> T within(Deadline deadline, Supplier<T> action) {
+    var previous = CURRENT.get();
+    CURRENT.set(deadline);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
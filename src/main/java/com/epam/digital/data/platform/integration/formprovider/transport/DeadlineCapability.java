@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import com.epam.digital.data.platform.integration.formprovider.exception.DeadlineExceededException;
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a {@link Capability} that applies the {@link Deadline} of the caller to
+ * requests. A request is not sent if the deadline is passed, otherwise connect and read timeouts
+ * are cut to the remaining time budget and the budget in milliseconds is sent in
+ * {@code headerName} header, so the server can drop the work nobody waits for.
+ * <p>
+ * Requests made without a deadline are not changed.
+ */
+@RequiredArgsConstructor
+public class DeadlineCapability implements Capability {
+
+  private final String headerName;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Client enrich(Client client) {
+    if (client instanceof AsyncClient) {
+      return new CompositeClient<>(deadlineClient(client),
+          deadlineAsyncClient((AsyncClient<Object>) client));
+    }
+    return deadlineClient(client);
+  }
+
+  /**
+   * Returns async client that applies the deadline of the caller, the deadline is taken on the
+   * thread that makes the call.
+   *
+   * @param client async client to enrich
+   * @param <C>    type of request context
+   * @return async client with deadline support
+   */
+  public <C> AsyncClient<C> enrich(AsyncClient<C> client) {
+    if (client instanceof Client) {
+      return new CompositeClient<>(deadlineClient((Client) client), deadlineAsyncClient(client));
+    }
+    return deadlineAsyncClient(client);
+  }
+
+  private Client deadlineClient(Client client) {
+    return (request, options) -> {
+      var deadline = Deadline.current();
+      if (deadline.isEmpty()) {
+        return client.execute(request, options);
+      }
+      var remaining = remainingMillis(request, deadline.get());
+      return client.execute(withBudget(request, remaining), optionsOf(options, remaining));
+    };
+  }
+
+  private <C> AsyncClient<C> deadlineAsyncClient(AsyncClient<C> client) {
+    return (request, options, requestContext) -> {
+      var deadline = Deadline.current();
+      if (deadline.isEmpty()) {
+        return client.execute(request, options, requestContext);
+      }
+      long remaining;
+      try {
+        remaining = remainingMillis(request, deadline.get());
+      } catch (DeadlineExceededException ex) {
+        return CompletableFuture.failedFuture(ex);
+      }
+      return client.execute(withBudget(request, remaining), optionsOf(options, remaining),
+          requestContext);
+    };
+  }
+
+  private long remainingMillis(Request request, Deadline deadline) {
+    var remaining = deadline.remaining().toMillis();
+    if (remaining <= 0) {
+      throw new DeadlineExceededException(
+          "Deadline is exceeded before " + request.httpMethod() + " " + request.url());
+    }
+    return remaining;
+  }
+
+  private Request withBudget(Request request, long remaining) {
+    if (headerName == null || headerName.isEmpty()) {
+      return request;
+    }
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    headers.put(headerName, List.of(String.valueOf(remaining)));
+    return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+        request.charset(), request.requestTemplate());
+  }
+
+  private Options optionsOf(Options options, long remaining) {
+    return new Options(Math.min(options.connectTimeoutMillis(), remaining),
+        TimeUnit.MILLISECONDS, Math.min(options.readTimeoutMillis(), remaining),
+        TimeUnit.MILLISECONDS, options.isFollowRedirects());
+  }
+}
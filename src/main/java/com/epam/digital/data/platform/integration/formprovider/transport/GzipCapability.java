@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The class represents a {@link Capability} that gzips request bodies not smaller than
+ * {@code minRequestSize} and accepts gzipped responses. A body is sent as is if compression
+ * doesn't make it smaller.
+ * <p>
+ * A response is decompressed only if it is marked with {@code Content-Encoding: gzip} and still
+ * starts with gzip magic bytes, so it is safe with transports that decompress responses on their
+ * own.
+ * <p>
+ * If {@link MeterRegistry} is given, the ratio of compressed to original size is recorded to
+ * {@code form.validation.client.compression.ratio} and the number of saved bytes to
+ * {@code form.validation.client.compression.saved}, a body sent as is is recorded with ratio 1.
+ */
+public class GzipCapability implements Capability {
+
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String CONTENT_LENGTH = "Content-Length";
+  private static final String GZIP = "gzip";
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  private final long minRequestSize;
+  private final boolean acceptCompressedResponse;
+  private final DistributionSummary compressionRatio;
+  private final Counter savedBytes;
+
+  public GzipCapability(long minRequestSize, boolean acceptCompressedResponse,
+      MeterRegistry meterRegistry) {
+    this.minRequestSize = minRequestSize;
+    this.acceptCompressedResponse = acceptCompressedResponse;
+    this.compressionRatio = meterRegistry == null ? null
+        : DistributionSummary.builder("form.validation.client.compression.ratio")
+            .description("Ratio of compressed to original request body size")
+            .register(meterRegistry);
+    this.savedBytes = meterRegistry == null ? null
+        : Counter.builder("form.validation.client.compression.saved")
+            .description("Request body bytes saved by compression")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> decompress(client.execute(compress(request), options));
+  }
+
+  private Request compress(Request request) throws IOException {
+    var body = request.body();
+    var compressed = body != null && body.length > 0 && body.length >= minRequestSize
+        && !request.headers().containsKey(CONTENT_ENCODING) ? gzip(body) : null;
+    if (compressed != null) {
+      record(body.length, Math.min(body.length, compressed.length));
+    }
+    var compressBody = compressed != null && compressed.length < body.length;
+    if (!compressBody && !acceptCompressedResponse) {
+      return request;
+    }
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    if (acceptCompressedResponse) {
+      headers.put(ACCEPT_ENCODING, List.of(GZIP));
+    }
+    if (compressBody) {
+      headers.put(CONTENT_ENCODING, List.of(GZIP));
+      headers.put(CONTENT_LENGTH, List.of(String.valueOf(compressed.length)));
+      body = compressed;
+    }
+    return Request.create(request.httpMethod(), request.url(), headers, body, request.charset(),
+        request.requestTemplate());
+  }
+
+  private Response decompress(Response response) throws IOException {
+    if (response.body() == null || !isGzipped(response.headers())) {
+      return response;
+    }
+    var body = new PushbackInputStream(response.body().asInputStream(), 2);
+    var magic = body.readNBytes(2);
+    body.unread(magic);
+    InputStream decompressed = magic.length == 2
+        && ((magic[0] & 0xff) | (magic[1] & 0xff) << 8) == GZIP_MAGIC
+        ? new GZIPInputStream(body) : body;
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(response.headers());
+    headers.remove(CONTENT_ENCODING);
+    headers.remove(CONTENT_LENGTH);
+    return response.toBuilder()
+        .headers(headers)
+        .body(decompressed, null)
+        .build();
+  }
+
+  private boolean isGzipped(Map<String, Collection<String>> headers) {
+    return headers.entrySet().stream()
+        .filter(header -> CONTENT_ENCODING.equalsIgnoreCase(header.getKey()))
+        .flatMap(header -> header.getValue().stream())
+        .anyMatch(GZIP::equalsIgnoreCase);
+  }
+
+  private void record(int originalSize, int compressedSize) {
+    if (compressionRatio != null) {
+      compressionRatio.record((double) compressedSize / originalSize);
+      savedBytes.increment(originalSize - compressedSize);
+    }
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    var out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+    try (var gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents an implementation of {@link Client} and {@link AsyncClient} on top of JDK
+ * {@link HttpClient}, that supports HTTP/2 multiplexing and non-blocking execution.
+ * <p>
+ * Connect timeout is defined by {@link HttpClient}, only read timeout of {@link Options} is
+ * applied per request. Blocking requests are aborted when the {@link Cancellation} of the call is
+ * cancelled, non-blocking ones when the returned future is cancelled.
+ */
+@RequiredArgsConstructor
+public class JdkHttpClient implements Client, AsyncClient<Object> {
+
+  private static final Set<String> RESTRICTED_HEADERS = caseInsensitiveSet(
+      "connection", "content-length", "expect", "host", "upgrade");
+
+  private final HttpClient httpClient;
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    var future = httpClient.sendAsync(toHttpRequest(request, options),
+        BodyHandlers.ofInputStream());
+    Cancellation.current().ifPresent(cancellation ->
+        cancellation.onCancel(() -> future.cancel(true)));
+    try {
+      var httpResponse = future.get();
+      return toResponse(request, httpResponse.statusCode(), httpResponse.headers())
+          .body(httpResponse.body(), contentLength(httpResponse.headers()))
+          .build();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(ex.getMessage());
+    } catch (CancellationException ex) {
+      throw new InterruptedIOException("Request " + request.url() + " is cancelled");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof IOException) {
+        throw (IOException) ex.getCause();
+      }
+      throw new IOException(ex.getCause());
+    }
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Options options,
+      Optional<Object> requestContext) {
+    var exchange = httpClient.sendAsync(toHttpRequest(request, options),
+        BodyHandlers.ofByteArray());
+    var response = exchange.thenApply(httpResponse ->
+        toResponse(request, httpResponse.statusCode(), httpResponse.headers())
+            .body(httpResponse.body())
+            .build());
+    response.whenComplete((value, error) -> {
+      if (response.isCancelled()) {
+        exchange.cancel(true);
+      }
+    });
+    return response;
+  }
+
+  private HttpRequest toHttpRequest(Request request, Options options) {
+    var body = request.body() == null
+        ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(request.body());
+    var builder = HttpRequest.newBuilder(URI.create(request.url()))
+        .timeout(Duration.ofMillis(options.readTimeoutMillis()))
+        .method(request.httpMethod().name(), body);
+    request.headers().forEach((name, values) -> {
+      if (!RESTRICTED_HEADERS.contains(name)) {
+        values.forEach(value -> builder.header(name, value));
+      }
+    });
+    return builder.build();
+  }
+
+  private Response.Builder toResponse(Request request, int status, HttpHeaders httpHeaders) {
+    Map<String, Collection<String>> headers = httpHeaders.map().entrySet().stream()
+        .filter(header -> !header.getKey().startsWith(":"))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return Response.builder()
+        .status(status)
+        .request(request)
+        .headers(headers);
+  }
+
+  private Integer contentLength(HttpHeaders headers) {
+    var length = headers.firstValueAsLong("Content-Length");
+    return length.isPresent() && length.getAsLong() <= Integer.MAX_VALUE
+        ? (int) length.getAsLong() : null;
+  }
+
+  private static Set<String> caseInsensitiveSet(String... values) {
+    var set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    set.addAll(Set.of(values));
+    return set;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import com.epam.digital.data.platform.integration.formprovider.config.FormValidationProperties.TimeoutProperties;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a {@link Capability} that overrides connect and read timeouts of request
+ * {@link Options} with the ones configured for the invoked client method, e.g.
+ * {@code validateFormData}.
+ */
+@RequiredArgsConstructor
+public class MethodOptionsCapability implements Capability {
+
+  private final Map<String, TimeoutProperties> methodOptions;
+
+  @Override
+  public Client enrich(Client client) {
+    if (methodOptions.isEmpty()) {
+      return client;
+    }
+    return (request, options) -> client.execute(request, optionsOf(request, options));
+  }
+
+  private Options optionsOf(Request request, Options defaultOptions) {
+    var template = request.requestTemplate();
+    if (template == null || template.methodMetadata() == null) {
+      return defaultOptions;
+    }
+    var timeouts = methodOptions.get(template.methodMetadata().method().getName());
+    if (timeouts == null) {
+      return defaultOptions;
+    }
+    var connectTimeout = timeouts.getConnectTimeout() == null
+        ? defaultOptions.connectTimeoutMillis() : timeouts.getConnectTimeout().toMillis();
+    var readTimeout = timeouts.getReadTimeout() == null
+        ? defaultOptions.readTimeoutMillis() : timeouts.getReadTimeout().toMillis();
+    return new Options(connectTimeout, TimeUnit.MILLISECONDS, readTimeout,
+        TimeUnit.MILLISECONDS, defaultOptions.isFollowRedirects());
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import com.epam.digital.data.platform.integration.formprovider.codec.CompositeCodec;
+import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import feign.Capability;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The class represents {@link UrlConnectionClient} that writes {@link FormDataValidationDto}
+ * request bodies, single or in a collection, straight to the connection output stream with
+ * chunked transfer encoding instead of buffering them in a byte array. Connections are opened and
+ * set up the same way as for other requests.
+ * <p>
+ * The client is also a {@link Capability}, its encoder puts an empty placeholder into the
+ * request instead of the streamed body and keeps the body by that placeholder. The placeholder
+ * is carried by every request built from the call, so the body is written on every attempt and is
+ * released together with the call. A request whose placeholder was replaced by a copy on the way
+ * fails instead of being sent with an empty body. Requests with any other body are sent as is.
+ * If {@code gzip} is set, streamed bodies are gzipped on the fly. Responses are not buffered,
+ * gzip and deflate encoded ones, including error responses, are decoded.
+ */
+public class StreamingClient extends UrlConnectionClient implements Capability {
+
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String APPLICATION_JSON = "application/json";
+
+  private final ObjectMapper objectMapper;
+  private final boolean gzip;
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final Map<byte[], Object> bodies = Collections.synchronizedMap(new WeakHashMap<>());
+
+  public StreamingClient(SSLSocketFactory sslContextFactory, HostnameVerifier hostnameVerifier,
+      ObjectMapper objectMapper, boolean gzip) {
+    super(sslContextFactory, hostnameVerifier);
+    this.objectMapper = objectMapper;
+    this.gzip = gzip;
+  }
+
+  @Override
+  public Encoder enrich(Encoder encoder) {
+    Encoder streamingEncoder = (object, bodyType, template) -> {
+      if (object == null || !isStreamed(bodyType)) {
+        encoder.encode(object, bodyType, template);
+        return;
+      }
+      var placeholder = new byte[0];
+      bodies.put(placeholder, object);
+      template.body(placeholder, null)
+          .removeHeader(CONTENT_TYPE).header(CONTENT_TYPE, APPLICATION_JSON);
+    };
+    return encoder instanceof Decoder
+        ? new CompositeCodec(streamingEncoder, (Decoder) encoder) : streamingEncoder;
+  }
+
+  @Override
+  public Decoder enrich(Decoder decoder) {
+    return decoder instanceof Encoder ? (Decoder) enrich((Encoder) decoder) : decoder;
+  }
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    var placeholder = request.body();
+    var body = placeholder == null ? null : bodies.get(placeholder);
+    if (body == null) {
+      if (placeholder != null && placeholder.length == 0 && isJson(request)) {
+        throw new IllegalStateException("Streamed body of " + request.httpMethod() + " "
+            + request.url() + " is not found, the request body was replaced by a copy");
+      }
+      return super.execute(request, options);
+    }
+    return send(request, options, streamedHeadersOf(request), -1, out -> write(body, out));
+  }
+
+  private Map<String, Collection<String>> streamedHeadersOf(Request request) {
+    var headers = headersOf(request);
+    if (gzip) {
+      headers.put(CONTENT_ENCODING, List.of(GZIP));
+    }
+    return headers;
+  }
+
+  private void write(Object body, OutputStream out) throws IOException {
+    var writer = writers.computeIfAbsent(body.getClass(), objectMapper::writerFor);
+    if (gzip) {
+      var gzipOut = new GZIPOutputStream(out, CHUNK_SIZE);
+      writer.writeValue(gzipOut, body);
+      gzipOut.finish();
+    } else {
+      writer.writeValue(out, body);
+    }
+  }
+
+  private static boolean isJson(Request request) {
+    var contentType = request.headers().get(CONTENT_TYPE);
+    return contentType != null && contentType.contains(APPLICATION_JSON);
+  }
+
+  private static boolean isStreamed(Type bodyType) {
+    if (bodyType == FormDataValidationDto.class) {
+      return true;
+    }
+    if (bodyType instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) bodyType;
+      return parameterizedType.getRawType() instanceof Class
+          && Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+          && Arrays.asList(parameterizedType.getActualTypeArguments())
+          .contains(FormDataValidationDto.class);
+    }
+    return false;
+  }
+}
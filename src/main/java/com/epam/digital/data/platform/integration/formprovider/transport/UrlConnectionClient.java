@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.integration.formprovider.transport;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The class represents feign default {@link HttpURLConnection} transport, whose requests are
+ * aborted by disconnecting the connection when the {@link Cancellation} of the call is
+ * cancelled.
+ * <p>
+ * Feign default transport gzips every body marked with {@code Content-Encoding: gzip} on its own,
+ * so a body that is already gzipped, e.g. by {@link GzipCapability}, is written as is instead of
+ * being compressed twice. Responses of such requests are decoded the same way for error statuses
+ * as for successful ones.
+ */
+public class UrlConnectionClient extends Client.Default {
+
+  protected static final int CHUNK_SIZE = 8192;
+  protected static final String CONTENT_LENGTH = "Content-Length";
+  protected static final String CONTENT_ENCODING = "Content-Encoding";
+  protected static final String GZIP = "gzip";
+  protected static final String DEFLATE = "deflate";
+
+  private static final String ACCEPT = "Accept";
+  private static final String TRANSFER_ENCODING = "Transfer-Encoding";
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  private final SSLSocketFactory sslContextFactory;
+  private final HostnameVerifier hostnameVerifier;
+
+  public UrlConnectionClient(SSLSocketFactory sslContextFactory,
+      HostnameVerifier hostnameVerifier) {
+    super(sslContextFactory, hostnameVerifier);
+    this.sslContextFactory = sslContextFactory;
+    this.hostnameVerifier = hostnameVerifier;
+  }
+
+  @Override
+  public HttpURLConnection getConnection(URL url) throws IOException {
+    var connection = super.getConnection(url);
+    Cancellation.current().ifPresent(cancellation -> cancellation.onCancel(connection::disconnect));
+    return connection;
+  }
+
+  @Override
+  public Response execute(Request request, Options options) throws IOException {
+    var body = request.body();
+    if (body == null || !isGzipped(body) || !hasEncoding(request.headers(), GZIP)) {
+      return super.execute(request, options);
+    }
+    return send(request, options, headersOf(request), body.length, out -> out.write(body));
+  }
+
+  /**
+   * Sends the request with the given headers, writing the body by {@code body} with fixed length
+   * streaming if {@code contentLength} is known and with chunked transfer encoding otherwise.
+   */
+  protected Response send(Request request, Options options,
+      Map<String, Collection<String>> headers, int contentLength, BodyWriter body)
+      throws IOException {
+    var connection = getConnection(new URL(request.url()));
+    if (connection instanceof HttpsURLConnection) {
+      var httpsConnection = (HttpsURLConnection) connection;
+      if (sslContextFactory != null) {
+        httpsConnection.setSSLSocketFactory(sslContextFactory);
+      }
+      if (hostnameVerifier != null) {
+        httpsConnection.setHostnameVerifier(hostnameVerifier);
+      }
+    }
+    connection.setConnectTimeout(options.connectTimeoutMillis());
+    connection.setReadTimeout(options.readTimeoutMillis());
+    connection.setAllowUserInteraction(false);
+    connection.setInstanceFollowRedirects(options.isFollowRedirects());
+    connection.setRequestMethod(request.httpMethod().name());
+    headers.forEach((name, values) ->
+        values.forEach(value -> connection.addRequestProperty(name, value)));
+    if (contentLength >= 0) {
+      connection.setFixedLengthStreamingMode(contentLength);
+    } else {
+      connection.setChunkedStreamingMode(CHUNK_SIZE);
+    }
+    connection.setDoOutput(true);
+    try (var out = connection.getOutputStream()) {
+      body.writeTo(out);
+    }
+    return toResponse(connection, request);
+  }
+
+  /**
+   * Returns the request headers to send, without the length and transfer encoding headers, which
+   * are set by the connection.
+   */
+  protected Map<String, Collection<String>> headersOf(Request request) {
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    headers.remove(CONTENT_LENGTH);
+    headers.remove(TRANSFER_ENCODING);
+    headers.putIfAbsent(ACCEPT, List.of("*/*"));
+    return headers;
+  }
+
+  private Response toResponse(HttpURLConnection connection, Request request) throws IOException {
+    var status = connection.getResponseCode();
+    if (status < 0) {
+      throw new IOException(String.format("Invalid status(%s) executing %s %s", status,
+          connection.getRequestMethod(), connection.getURL()));
+    }
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    connection.getHeaderFields().forEach((name, values) -> {
+      if (name != null) {
+        headers.put(name, values);
+      }
+    });
+    var length = connection.getContentLength();
+    InputStream stream = status >= 400 ? connection.getErrorStream()
+        : connection.getInputStream();
+    var encoded = stream != null && (hasEncoding(headers, GZIP) || hasEncoding(headers, DEFLATE));
+    if (encoded) {
+      stream = hasEncoding(headers, GZIP) ? new GZIPInputStream(stream)
+          : new InflaterInputStream(stream);
+      headers.remove(CONTENT_ENCODING);
+      headers.remove(CONTENT_LENGTH);
+    }
+    return Response.builder()
+        .status(status)
+        .reason(connection.getResponseMessage())
+        .headers(headers)
+        .request(request)
+        .body(stream, length < 0 || encoded ? null : length)
+        .build();
+  }
+
+  private static boolean hasEncoding(Map<String, Collection<String>> headers, String encoding) {
+    return headers.entrySet().stream()
+        .filter(header -> CONTENT_ENCODING.equalsIgnoreCase(header.getKey()))
+        .flatMap(header -> header.getValue().stream())
+        .anyMatch(encoding::equalsIgnoreCase);
+  }
+
+  private static boolean isGzipped(byte[] body) {
+    return body.length >= 2 && ((body[0] & 0xff) | (body[1] & 0xff) << 8) == GZIP_MAGIC;
+  }
+
+  /**
+   * The interface represents a writer of the request body to the connection output stream.
+   */
+  @FunctionalInterface
+  protected interface BodyWriter {
+
+    void writeTo(OutputStream out) throws IOException;
+  }
+}